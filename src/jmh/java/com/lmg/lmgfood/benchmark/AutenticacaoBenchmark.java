@@ -0,0 +1,88 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.lmg.lmgfood.core.security.CredenciaisVerificadasAuthenticationProvider;
+import com.lmg.lmgfood.core.security.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de autenticar uma requisição: Basic verificado pelo BCrypt a cada chamada, Basic com o cache de
+ * credenciais verificadas e Bearer validado pela assinatura do token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class AutenticacaoBenchmark {
+
+    private static final String SEGREDO = "segredo-usado-apenas-no-benchmark-de-autenticacao";
+
+    private DaoAuthenticationProvider daoAuthenticationProvider;
+
+    private CredenciaisVerificadasAuthenticationProvider credenciaisVerificadasAuthenticationProvider;
+
+    private JwtDecoder jwtDecoder;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var passwordEncoder = new BCryptPasswordEncoder();
+        var userDetailsService = new InMemoryUserDetailsManager(User.withUsername("lucas")
+                .password(passwordEncoder.encode("123"))
+                .roles("ADMIN")
+                .build());
+
+        daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+
+        credenciaisVerificadasAuthenticationProvider = new CredenciaisVerificadasAuthenticationProvider(
+                daoAuthenticationProvider, Duration.ofMinutes(5), 100);
+
+        var tokenService = new TokenService(SEGREDO, Duration.ofMinutes(15));
+        jwtDecoder = tokenService.decoder();
+        token = tokenService.emitir(daoAuthenticationProvider.authenticate(credenciais()));
+    }
+
+    @Benchmark
+    public Authentication basicBcrypt() {
+        return daoAuthenticationProvider.authenticate(credenciais());
+    }
+
+    @Benchmark
+    public Authentication basicCredenciaisVerificadas() {
+        return credenciaisVerificadasAuthenticationProvider.authenticate(credenciais());
+    }
+
+    @Benchmark
+    public Jwt bearerToken() {
+        return jwtDecoder.decode(token);
+    }
+
+    private UsernamePasswordAuthenticationToken credenciais() {
+        return new UsernamePasswordAuthenticationToken("lucas", "123");
+    }
+}
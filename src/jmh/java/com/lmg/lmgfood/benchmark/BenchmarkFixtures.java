@@ -0,0 +1,122 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.lmg.lmgfood.domain.model.Cidade;
+import com.lmg.lmgfood.domain.model.Cozinha;
+import com.lmg.lmgfood.domain.model.Endereco;
+import com.lmg.lmgfood.domain.model.Estado;
+import com.lmg.lmgfood.domain.model.FormaPagamento;
+import com.lmg.lmgfood.domain.model.ItemPedido;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.Produto;
+import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.Usuario;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Monta os objetos de domínio usados nos benchmarks, com todas as associações preenchidas
+ * como se tivessem sido carregadas do banco
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Pedido pedido(int quantidadeItens) {
+        var restaurante = restaurante(1L);
+
+        var cliente = new Usuario();
+        cliente.setId(1L);
+        cliente.setNome("Maria Joaquina");
+        cliente.setEmail("maria.joaquina@lmgfood.com.br");
+        cliente.setDataCadastro(LocalDateTime.now());
+
+        var formaPagamento = new FormaPagamento();
+        formaPagamento.setId(1L);
+        formaPagamento.setDescricao("Cartão de crédito");
+        formaPagamento.setDataAtualizacao(OffsetDateTime.now());
+
+        var pedido = new Pedido();
+        pedido.setId(1L);
+        pedido.setCodigo(UUID.randomUUID().toString());
+        pedido.setTaxaFrete(new BigDecimal("9.90"));
+        pedido.setDataCriacao(OffsetDateTime.now());
+        pedido.setFormaPagamento(formaPagamento);
+        pedido.setRestaurante(restaurante);
+        pedido.setCliente(cliente);
+        pedido.setEnderecoEntrega(endereco());
+
+        for (int i = 1; i <= quantidadeItens; i++) {
+            var produto = new Produto();
+            produto.setId((long) i);
+            produto.setNome("Produto " + i);
+            produto.setDescricao("Descrição do produto " + i);
+            produto.setPreco(new BigDecimal("29.90").add(BigDecimal.valueOf(i)));
+            produto.setAtivo(true);
+            produto.setRestaurante(restaurante);
+
+            var item = new ItemPedido();
+            item.setId((long) i);
+            item.setPedido(pedido);
+            item.setProduto(produto);
+            item.setQuantidade(i % 3 + 1);
+            item.setPrecoUnitario(produto.getPreco());
+            item.setObservacao(i % 2 == 0 ? "Sem cebola" : null);
+            pedido.getItens().add(item);
+        }
+
+        pedido.calcularValorTotal();
+        return pedido;
+    }
+
+    static List<Restaurante> restaurantes(int quantidade) {
+        var restaurantes = new ArrayList<Restaurante>(quantidade);
+
+        for (long id = 1; id <= quantidade; id++) {
+            restaurantes.add(restaurante(id));
+        }
+        return restaurantes;
+    }
+
+    static Restaurante restaurante(Long id) {
+        var cozinha = new Cozinha();
+        cozinha.setId(id % 4 + 1);
+        cozinha.setNome("Cozinha " + cozinha.getId());
+
+        var restaurante = new Restaurante();
+        restaurante.setId(id);
+        restaurante.setNome("Restaurante " + id);
+        restaurante.setTaxaFrete(new BigDecimal("7.50"));
+        restaurante.setCozinha(cozinha);
+        restaurante.setEndereco(endereco());
+        restaurante.setAtivo(Boolean.TRUE);
+        restaurante.setAberto(Boolean.TRUE);
+        restaurante.setDataCadastro(LocalDateTime.now());
+        restaurante.setDataAtualizacao(LocalDateTime.now());
+        return restaurante;
+    }
+
+    private static Endereco endereco() {
+        var estado = new Estado();
+        estado.setId(1L);
+        estado.setNome("Minas Gerais");
+
+        var cidade = new Cidade();
+        cidade.setId(1L);
+        cidade.setNome("Uberlândia");
+        cidade.setEstado(estado);
+
+        var endereco = new Endereco();
+        endereco.setCep("38400-000");
+        endereco.setLogradouro("Rua Floriano Peixoto");
+        endereco.setNumero("500");
+        endereco.setBairro("Centro");
+        endereco.setCidade(cidade);
+        return endereco;
+    }
+}
@@ -0,0 +1,159 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.lmg.lmgfood.AlgafoodApiApplication;
+import com.lmg.lmgfood.core.metrics.ContadorConsultasInspector;
+import com.lmg.lmgfood.domain.model.Cidade;
+import com.lmg.lmgfood.domain.model.Endereco;
+import com.lmg.lmgfood.domain.model.FormaPagamento;
+import com.lmg.lmgfood.domain.model.ItemPedido;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.Produto;
+import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.Usuario;
+import com.lmg.lmgfood.domain.service.EmissaoPedidoService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão de pedido com a gravação dos itens em lote (batch_size=50) e item a item (batch_size=1).
+ * <p>
+ * Sobe a aplicação sem o servidor web e grava pedidos no banco do perfil ativo, por isso precisa do MariaDB
+ * local com a massa de testes (db/testdata/afterMigrate.sql), a mesma dos testes de integração. Os pedidos
+ * emitidos somem na próxima subida da aplicação, quando o afterMigrate recria a massa.
+ * <p>
+ * Além do tempo médio, reporta os comandos SQL preparados ({@code comandosSql}) e as emissões ({@code emissoes})
+ * de cada iteração; a razão entre os dois é a quantidade de comandos por pedido emitido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmissaoPedidoBenchmark {
+
+    private static final String SEGREDO = "segredo-usado-apenas-no-benchmark-de-emissao-de-pedido";
+
+    // Restaurante, cliente, forma de pagamento, cidade e produto da massa de testes
+    private static final long RESTAURANTE_ID = 1L;
+    private static final long CLIENTE_ID = 1L;
+    private static final long FORMA_PAGAMENTO_ID = 1L;
+    private static final long CIDADE_ID = 1L;
+    private static final long PRODUTO_ID = 1L;
+
+    @Param({"1", "50"})
+    private int tamanhoLote;
+
+    @Param({"1", "10", "50"})
+    private int itensPorPedido;
+
+    private ConfigurableApplicationContext context;
+
+    private EmissaoPedidoService emissaoPedidoService;
+
+    private ContadorConsultasInspector contadorConsultas;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Comandos {
+
+        public long comandosSql;
+
+        public long emissoes;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            comandosSql = 0;
+            emissoes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(AlgafoodApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + tamanhoLote,
+                        "lmgfood.seguranca.token.segredo=" + SEGREDO,
+                        "logging.level.root=WARN")
+                .run();
+
+        emissaoPedidoService = context.getBean(EmissaoPedidoService.class);
+        contadorConsultas = context.getBean(ContadorConsultasInspector.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Pedido emitir(Comandos comandos) {
+        Pedido pedido = novoPedido();
+
+        contadorConsultas.iniciar();
+        try {
+            return emissaoPedidoService.emitir(pedido);
+        } finally {
+            comandos.comandosSql += contadorConsultas.finalizar();
+            comandos.emissoes++;
+        }
+    }
+
+    // Pedido como chega do controller, só com os ids das associações
+    private Pedido novoPedido() {
+        var restaurante = new Restaurante();
+        restaurante.setId(RESTAURANTE_ID);
+
+        var cliente = new Usuario();
+        cliente.setId(CLIENTE_ID);
+
+        var formaPagamento = new FormaPagamento();
+        formaPagamento.setId(FORMA_PAGAMENTO_ID);
+
+        var cidade = new Cidade();
+        cidade.setId(CIDADE_ID);
+
+        var endereco = new Endereco();
+        endereco.setCep("38400-000");
+        endereco.setLogradouro("Rua Floriano Peixoto");
+        endereco.setNumero("500");
+        endereco.setBairro("Brasil");
+        endereco.setCidade(cidade);
+
+        var pedido = new Pedido();
+        pedido.setRestaurante(restaurante);
+        pedido.setCliente(cliente);
+        pedido.setFormaPagamento(formaPagamento);
+        pedido.setEnderecoEntrega(endereco);
+
+        for (int i = 1; i <= itensPorPedido; i++) {
+            var produto = new Produto();
+            produto.setId(PRODUTO_ID);
+
+            var item = new ItemPedido();
+            item.setProduto(produto);
+            item.setQuantidade(1);
+            pedido.getItens().add(item);
+        }
+
+        return pedido;
+    }
+}
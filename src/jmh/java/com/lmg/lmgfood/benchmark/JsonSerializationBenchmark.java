@@ -0,0 +1,95 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.lmg.lmgfood.api.mapper.PedidoMapper;
+import com.lmg.lmgfood.api.mapper.RestauranteMapper;
+import com.lmg.lmgfood.api.model.PedidoDTO;
+import com.lmg.lmgfood.api.model.RestauranteDTO;
+import com.lmg.lmgfood.api.model.view.RestauranteView;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das respostas com o ObjectMapper configurado como o do Spring Boot
+ * (sem DEFAULT_VIEW_INCLUSION, com o módulo de datas), incluindo as projeções @JsonView de restaurantes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JsonSerializationBenchmark {
+
+    @Param({"10"})
+    private int itensPorPedido;
+
+    @Param({"50"})
+    private int restaurantesPorPagina;
+
+    private ObjectWriter writer;
+
+    private ObjectWriter writerResumo;
+
+    private ObjectWriter writerApenasNome;
+
+    private PedidoDTO pedido;
+
+    private List<RestauranteDTO> restaurantes;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        writerResumo = objectMapper.writerWithView(RestauranteView.Resumo.class);
+        writerApenasNome = objectMapper.writerWithView(RestauranteView.ApenasNome.class);
+
+        try (var context = new AnnotationConfigApplicationContext()) {
+            // Os mappers só usam o ModelMapper para os formulários de entrada, fora do que é medido aqui
+            context.registerBean(ModelMapper.class);
+            context.scan(PedidoMapper.class.getPackageName());
+            context.refresh();
+
+            pedido = context.getBean(PedidoMapper.class).toDTO(BenchmarkFixtures.pedido(itensPorPedido));
+            restaurantes = context.getBean(RestauranteMapper.class)
+                    .toCollectionDTO(BenchmarkFixtures.restaurantes(restaurantesPorPagina));
+        }
+    }
+
+    @Benchmark
+    public byte[] pedido() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pedido);
+    }
+
+    @Benchmark
+    public byte[] restaurantes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(restaurantes);
+    }
+
+    @Benchmark
+    public byte[] restaurantesResumo() throws JsonProcessingException {
+        return writerResumo.writeValueAsBytes(restaurantes);
+    }
+
+    @Benchmark
+    public byte[] restaurantesApenasNome() throws JsonProcessingException {
+        return writerApenasNome.writeValueAsBytes(restaurantes);
+    }
+}
@@ -0,0 +1,119 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.lmg.lmgfood.api.mapper.PedidoMapper;
+import com.lmg.lmgfood.api.mapper.RestauranteMapper;
+import com.lmg.lmgfood.api.model.EnderecoDTO;
+import com.lmg.lmgfood.api.model.PedidoDTO;
+import com.lmg.lmgfood.api.model.RestauranteDTO;
+import com.lmg.lmgfood.domain.model.Endereco;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.Restaurante;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Custo de converter as entidades nos DTOs de resposta, usando os mappers como são injetados na aplicação.
+ * Os benchmarks modelMapper* repetem o mapeamento por reflexão usado antes dos mappers gerados pelo MapStruct,
+ * para comparar o custo por DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"1", "10"})
+    private int itensPorPedido;
+
+    @Param({"50"})
+    private int restaurantesPorPagina;
+
+    private AnnotationConfigApplicationContext context;
+
+    private PedidoMapper pedidoMapper;
+
+    private RestauranteMapper restauranteMapper;
+
+    private Pedido pedido;
+
+    private List<Restaurante> restaurantes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new AnnotationConfigApplicationContext();
+        // Os mappers só usam o ModelMapper para os formulários de entrada, fora do que é medido aqui
+        context.registerBean(ModelMapper.class);
+        context.scan(PedidoMapper.class.getPackageName());
+        context.refresh();
+
+        pedidoMapper = context.getBean(PedidoMapper.class);
+        restauranteMapper = context.getBean(RestauranteMapper.class);
+
+        pedido = BenchmarkFixtures.pedido(itensPorPedido);
+        restaurantes = BenchmarkFixtures.restaurantes(restaurantesPorPagina);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PedidoDTO pedidoToDTO() {
+        return pedidoMapper.toDTO(pedido);
+    }
+
+    @Benchmark
+    public List<RestauranteDTO> restaurantesToCollectionDTO() {
+        return restauranteMapper.toCollectionDTO(restaurantes);
+    }
+
+    @Benchmark
+    public PedidoDTO modelMapperPedidoToDTO(ModelMapperAnterior anterior) {
+        return anterior.modelMapper.map(pedido, PedidoDTO.class);
+    }
+
+    @Benchmark
+    public List<RestauranteDTO> modelMapperRestaurantesToCollectionDTO(ModelMapperAnterior anterior) {
+        return restaurantes.stream()
+                .map(restaurante -> anterior.modelMapper.map(restaurante, RestauranteDTO.class))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Configuração do ModelMapper usada nas respostas antes do MapStruct
+     */
+    @State(Scope.Benchmark)
+    public static class ModelMapperAnterior {
+
+        private ModelMapper modelMapper;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            modelMapper = new ModelMapper();
+
+            modelMapper.createTypeMap(Endereco.class, EnderecoDTO.class).<String>addMapping(
+                    src -> src.getCidade().getEstado().getNome(),
+                    (dest, value) -> dest.getCidade().setEstado(value));
+        }
+    }
+}
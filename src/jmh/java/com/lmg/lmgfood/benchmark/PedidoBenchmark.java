@@ -0,0 +1,62 @@
+package com.lmg.lmgfood.benchmark;
+
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regras do domínio executadas em toda emissão e mudança de status de pedido
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PedidoBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itensPorPedido;
+
+    private Pedido pedido;
+
+    private StatusPedido[] status;
+
+    @Setup
+    public void setup() {
+        pedido = BenchmarkFixtures.pedido(itensPorPedido);
+        status = StatusPedido.values();
+    }
+
+    @Benchmark
+    public BigDecimal calcularValorTotal() {
+        pedido.calcularValorTotal();
+        return pedido.getValorTotal();
+    }
+
+    /**
+     * Todas as combinações de status atual e novo status
+     */
+    @Benchmark
+    public void naoPodeAlterarPara(Blackhole blackhole) {
+        for (StatusPedido atual : status) {
+            for (StatusPedido novo : status) {
+                blackhole.consume(atual.naoPodeAlterarPara(novo));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.lmg.lmgfood.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lmg.lmgfood.api.model.PedidoDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respostas já serializadas de pedidos entregues ou cancelados. Um pedido em status final não muda mais,
+ * então o JSON e o ETag são calculados uma única vez e as próximas consultas não acessam o banco.
+ * <p>
+ * Os nomes de produto, restaurante e cidade do pedido vêm dos cadastros atuais, por isso as respostas expiram
+ * depois de {@value VALIDADE_HORAS} horas e uma alteração nesses cadastros aparece no máximo nesse prazo.
+ */
+@Component
+public class PedidoFinalizadoCache {
+
+    public static final long VALIDADE_HORAS = 24;
+
+    // Limite pelo tamanho do JSON e não pela quantidade, pedidos com muitos itens ocupam mais memória
+    private static final long TAMANHO_MAXIMO_BYTES = 64L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, PedidoSerializado> pedidos;
+
+    public PedidoFinalizadoCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.pedidos = Caffeine.newBuilder()
+                .maximumWeight(TAMANHO_MAXIMO_BYTES)
+                .weigher((String codigo, PedidoSerializado pedido) -> pedido.getConteudo().length)
+                .expireAfterWrite(VALIDADE_HORAS, TimeUnit.HOURS)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pedidos, "pedidos-finalizados");
+    }
+
+    /**
+     * @return a resposta serializada ou null quando o pedido não está no cache
+     */
+    public PedidoSerializado buscar(String codigoPedido) {
+        return pedidos.getIfPresent(codigoPedido);
+    }
+
+    /**
+     * Serializa o pedido com o mesmo ObjectMapper das respostas da API e guarda no cache.
+     * Deve ser chamado apenas para pedidos em status final.
+     */
+    public PedidoSerializado guardar(PedidoDTO pedido) {
+        byte[] conteudo;
+        try {
+            conteudo = objectMapper.writeValueAsBytes(pedido);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var serializado = new PedidoSerializado(conteudo, DigestUtils.md5DigestAsHex(conteudo));
+        pedidos.put(pedido.getCodigo(), serializado);
+        return serializado;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PedidoSerializado {
+
+        private final byte[] conteudo;
+
+        // ETag forte, calculado a partir dos bytes da resposta
+        private final String eTag;
+
+    }
+}
@@ -45,7 +45,7 @@ public class CidadeController {
 
 	@PutMapping("/{cidadeId}")
 	public CidadeDTO atualizar(@RequestBody CidadeForm cidadeForm, @PathVariable Long cidadeId) {
-		Cidade cidadeEncontrada = cadastroCidadeService.buscarOuFalhar(cidadeId);
+		Cidade cidadeEncontrada = cadastroCidadeService.buscarParaAlteracao(cidadeId);
 
 		mapper.copyToDomainObject(cidadeForm, cidadeEncontrada);
 		try {
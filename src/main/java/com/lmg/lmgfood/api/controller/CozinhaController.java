@@ -48,7 +48,7 @@ public class CozinhaController {
 
 	@PutMapping("/{cozinhaId}")
 	public CozinhaDTO atualizar(@RequestBody CozinhaForm cozinhaForm, @PathVariable Long cozinhaId) {
-		Cozinha cozinhaEncontrada = cadastroCozinhaService.buscarOuFalhar(cozinhaId);
+		Cozinha cozinhaEncontrada = cadastroCozinhaService.buscarParaAlteracao(cozinhaId);
 		mapper.copyToDomainObject(cozinhaForm, cozinhaEncontrada);
 
 		return mapper.toDTO(cadastroCozinhaService.adicionar(cozinhaEncontrada));
@@ -57,7 +57,7 @@ public class CozinhaController {
 
 	@GetMapping
 	public List<Cozinha> buscarTodas() {
-		return cozinhaRepository.findAll();
+		return cadastroCozinhaService.buscarTodas();
 	}
 
 	@GetMapping("/{cozinhaId}")
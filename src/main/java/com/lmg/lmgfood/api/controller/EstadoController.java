@@ -4,7 +4,6 @@ import com.lmg.lmgfood.api.mapper.EstadoMapper;
 import com.lmg.lmgfood.api.model.EstadoDTO;
 import com.lmg.lmgfood.api.model.form.EstadoForm;
 import com.lmg.lmgfood.domain.model.Estado;
-import com.lmg.lmgfood.domain.repository.EstadoRepository;
 import com.lmg.lmgfood.domain.service.CadastroEstadoService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -24,9 +23,6 @@ import java.util.List;
 @RequestMapping(value = "/estados")
 public class EstadoController {
 
-	@Autowired
-	private EstadoRepository estadoRepository;
-
 	@Autowired
 	private CadastroEstadoService cadastroEstadoService;
 
@@ -35,7 +31,7 @@ public class EstadoController {
 
 	@GetMapping
 	public List<Estado> buscarTodas() {
-		return estadoRepository.findAll();
+		return cadastroEstadoService.buscarTodos();
 	}
 
 	@PostMapping
@@ -49,7 +45,7 @@ public class EstadoController {
 	@ResponseStatus(value = HttpStatus.OK)
 	public EstadoDTO atualizar(@RequestBody EstadoForm estadoForm, @PathVariable Long estadoId) {
 		
-		Estado estadoEncontrado = cadastroEstadoService.buscarOuFalhar(estadoId);
+		Estado estadoEncontrado = cadastroEstadoService.buscarParaAlteracao(estadoId);
 		mapper.copyToDomainObject(estadoForm, estadoEncontrado);
 
 		return mapper.toDTO(cadastroEstadoService.adicionar(estadoEncontrado));
@@ -1,18 +1,29 @@
 package com.lmg.lmgfood.api.controller;
 
+import com.lmg.lmgfood.api.mapper.RelatorioVendaJobMapper;
+import com.lmg.lmgfood.api.model.RelatorioVendaJobDTO;
 import com.lmg.lmgfood.domain.filter.VendaDiariaFilter;
 import com.lmg.lmgfood.domain.model.dto.VendaDiaria;
+import com.lmg.lmgfood.domain.model.enums.StatusRelatorio;
+import com.lmg.lmgfood.domain.service.EmissaoRelatorioVendaService;
 import com.lmg.lmgfood.domain.service.VendaQueryService;
-import com.lmg.lmgfood.domain.service.VendaReportService;
+import com.lmg.lmgfood.infra.repository.service.report.ReportException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 @RestController
@@ -23,7 +34,10 @@ public class EstatisticasController {
     private VendaQueryService vendaQueryService;
 
     @Autowired
-    private VendaReportService vendaReportService;
+    private EmissaoRelatorioVendaService emissaoRelatorioVendaService;
+
+    @Autowired
+    private RelatorioVendaJobMapper relatorioVendaJobMapper;
 
     @GetMapping(path = "/vendas-diarias", produces = MediaType.APPLICATION_JSON_VALUE)
     public List<VendaDiaria> consultarVendasDiarias(VendaDiariaFilter filtro,
@@ -31,16 +45,96 @@ public class EstatisticasController {
         return vendaQueryService.consultarVendasDiarias(filtro, timeOffset);
     }
     @GetMapping(path = "/vendas-diarias", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> consultarVendasDiariasPdf(VendaDiariaFilter filtro,
+    public void consultarVendasDiariasPdf(VendaDiariaFilter filtro,
+                                          @RequestParam(required = false, defaultValue = "+00:00") String timeOffset,
+                                          HttpServletResponse response) throws IOException {
+        emissaoRelatorioVendaService.emitir(filtro, timeOffset, new RespostaPdfOutputStream(response));
+    }
+
+    /**
+     * Solicita a geração do PDF em segundo plano, o andamento é consultado pelo código retornado
+     */
+    @PostMapping(path = "/vendas-diarias/relatorios")
+    public ResponseEntity<RelatorioVendaJobDTO> solicitarRelatorioVendasDiarias(VendaDiariaFilter filtro,
                                                     @RequestParam(required = false, defaultValue = "+00:00") String timeOffset){
-        byte[] bytesPdf = vendaReportService.emitirVendasDiarias(filtro, timeOffset);
+        var solicitacao = emissaoRelatorioVendaService.solicitar(filtro, timeOffset);
+
+        var uri = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{relatorioId}")
+                .buildAndExpand(solicitacao.getId())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(uri)
+                .body(relatorioVendaJobMapper.toDTO(solicitacao));
+    }
+
+    @GetMapping(path = "/vendas-diarias/relatorios/{relatorioId}")
+    public RelatorioVendaJobDTO consultarRelatorioVendasDiarias(@PathVariable String relatorioId){
+        return relatorioVendaJobMapper.toDTO(emissaoRelatorioVendaService.buscarOuFalhar(relatorioId));
+    }
+
+    @GetMapping(path = "/vendas-diarias/relatorios/{relatorioId}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    public void baixarRelatorioVendasDiarias(@PathVariable String relatorioId,
+                                             HttpServletResponse response) throws IOException {
+        var solicitacao = emissaoRelatorioVendaService.buscarOuFalhar(relatorioId);
+
+        if (solicitacao.getStatus() == StatusRelatorio.PROCESSANDO) {
+            response.setStatus(HttpStatus.ACCEPTED.value());
+            return;
+        }
+
+        if (solicitacao.getStatus() == StatusRelatorio.FALHOU) {
+            throw new ReportException("Não foi possível gerar o relatório de vendas diárias");
+        }
+
+        prepararRespostaPdf(response);
+        response.getOutputStream().write(solicitacao.getRelatorio().join());
+    }
+
+    // O ShallowEtagHeaderFilter não é aplicado em /estatisticas, o PDF é escrito direto na resposta
+    private static void prepararRespostaPdf(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=vendas-diarias.pdf");
+    }
+
+    /**
+     * Só define os cabeçalhos do PDF no primeiro byte escrito. Uma falha antes disso (consulta, preenchimento
+     * ou limite de emissões) encontra a resposta intacta e é respondida pelo ApiExceptionHandler.
+     */
+    private static final class RespostaPdfOutputStream extends OutputStream {
+
+        private final HttpServletResponse response;
+
+        private OutputStream saida;
+
+        private RespostaPdfOutputStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            saida().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            saida().write(b, off, len);
+        }
 
-        var headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=vendas-diarias.pdf");
+        @Override
+        public void flush() throws IOException {
+            if (saida != null) {
+                saida.flush();
+            }
+        }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .headers(headers)
-                .body(bytesPdf);
+        private OutputStream saida() throws IOException {
+            if (saida == null) {
+                prepararRespostaPdf(response);
+                saida = response.getOutputStream();
+            }
+            return saida;
+        }
     }
 }
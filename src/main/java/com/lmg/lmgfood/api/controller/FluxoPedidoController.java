@@ -1,37 +1,55 @@
 package com.lmg.lmgfood.api.controller;
 
+import com.lmg.lmgfood.api.model.TransicaoPedidoDTO;
+import com.lmg.lmgfood.api.model.form.TransicaoPedidosForm;
 import com.lmg.lmgfood.domain.service.FluxoPedidoService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.Valid;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @RestController
-@RequestMapping(value = "/pedidos/{codigoPedido}")
+@RequestMapping(value = "/pedidos")
 public class FluxoPedidoController {
 
     @Autowired
     private FluxoPedidoService fluxoPedidoService;
 
-    @PutMapping(value = "/confirmacao")
+    @PutMapping(value = "/{codigoPedido}/confirmacao")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void confirmar(@PathVariable String codigoPedido){
         fluxoPedidoService.confirmar(codigoPedido);
     }
 
-    @PutMapping(value = "/cancelamento")
+    @PutMapping(value = "/{codigoPedido}/cancelamento")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void cancelar(@PathVariable String codigoPedido){
         fluxoPedidoService.cancelar(codigoPedido);
     }
 
-    @PutMapping(value = "/entregua")
+    @PutMapping(value = "/{codigoPedido}/entregua")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void entregar(@PathVariable String codigoPedido){
         fluxoPedidoService.entregar(codigoPedido);
     }
 
+    /**
+     * Altera o status de vários pedidos de uma vez e informa a situação de cada código.
+     * Pedidos não encontrados ou em um status que não permite a alteração não impedem a alteração dos demais.
+     */
+    @PutMapping(value = "/transicoes")
+    public List<TransicaoPedidoDTO> alterarStatus(@RequestBody @Valid TransicaoPedidosForm transicaoForm){
+        return fluxoPedidoService.alterarStatus(transicaoForm.getCodigos(), transicaoForm.getStatus()).entrySet().stream()
+                .map(situacao -> new TransicaoPedidoDTO(situacao.getKey(), situacao.getValue()))
+                .collect(Collectors.toList());
+    }
+
 }
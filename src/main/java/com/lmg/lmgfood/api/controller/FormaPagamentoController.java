@@ -3,11 +3,12 @@ package com.lmg.lmgfood.api.controller;
 import com.lmg.lmgfood.api.mapper.FormaPagamentoMapper;
 import com.lmg.lmgfood.api.model.FormaPagamentoDTO;
 import com.lmg.lmgfood.api.model.form.FormaPagamentoForm;
+import com.lmg.lmgfood.core.web.RespostaCondicional;
 import com.lmg.lmgfood.domain.model.FormaPagamento;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
 import com.lmg.lmgfood.domain.repository.FormaPagamentoRepository;
 import com.lmg.lmgfood.domain.service.CadastroFormaPagamentoService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,13 +21,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.ServletWebRequest;
-import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
-import javax.servlet.Servlet;
 import javax.validation.Valid;
-import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping(value = "/formas-pagamento")
@@ -43,23 +40,13 @@ public class FormaPagamentoController {
 
     @GetMapping
     public ResponseEntity<List<FormaPagamentoDTO>> buscarTodas(ServletWebRequest request) {
-        ShallowEtagHeaderFilter.disableContentCaching(request.getRequest());
-
-        //Não faz sentido implementar pra formas de pagamento, pois terá muito pouco beneficio
-        String eTag = "0";
-        OffsetDateTime ultimaAtualizacao = formaPagamentoRepository.findUltimaAtualizacao();
-        if (ultimaAtualizacao != null){
-            eTag = String.valueOf(ultimaAtualizacao.toEpochSecond());
-        }
-        if (request.checkNotModified(eTag)){
+        VersaoRecurso versao = formaPagamentoRepository.findVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
             return null;
         }
 
-        List<FormaPagamentoDTO> formaPagamentoDTOS = mapper.toCollectionModel(formaPagamentoRepository.findAll());
-        return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(10, TimeUnit.SECONDS).cachePublic())
-                .eTag(eTag)
-                .body(formaPagamentoDTOS);
+        List<FormaPagamentoDTO> formaPagamentoDTOS = mapper.toCollectionModel(cadastroFormaPagamentoService.buscarTodas());
+        return RespostaCondicional.ok(versao, formaPagamentoDTOS);
     }
 
     @PostMapping
@@ -75,7 +62,7 @@ public class FormaPagamentoController {
 	public FormaPagamentoDTO atualizar(@PathVariable Long formaPagamentoId,
                                        @RequestBody @Valid FormaPagamentoForm formaPagamentoForm) {
 
-		var formaPagamento = cadastroFormaPagamentoService.buscarOuFalhar(formaPagamentoId);
+		var formaPagamento = cadastroFormaPagamentoService.buscarParaAlteracao(formaPagamentoId);
 		mapper.copyToDomainObject(formaPagamentoForm, formaPagamento);
 
 		return mapper.toDTO(cadastroFormaPagamentoService.adicionar(formaPagamento));
@@ -83,12 +70,14 @@ public class FormaPagamentoController {
 
 
     @GetMapping("/{formaPagamentoId}")
-    public ResponseEntity<FormaPagamentoDTO> buscarPorId(@PathVariable Long formaPagamentoId) {
+    public ResponseEntity<FormaPagamentoDTO> buscarPorId(@PathVariable Long formaPagamentoId, ServletWebRequest request) {
+        VersaoRecurso versao = formaPagamentoRepository.findVersaoById(formaPagamentoId);
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
 
         var formaPagamento = mapper.toDTO(cadastroFormaPagamentoService.buscarOuFalhar(formaPagamentoId));
-        return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(10, TimeUnit.SECONDS))
-                .body(formaPagamento);
+        return RespostaCondicional.ok(versao, formaPagamento);
     }
 
     @DeleteMapping("/{formaPagamentoId}")
@@ -1,8 +1,10 @@
 package com.lmg.lmgfood.api.controller;
 
+import com.lmg.lmgfood.api.cache.PedidoFinalizadoCache;
 import com.lmg.lmgfood.api.mapper.PedidoFormMapper;
 import com.lmg.lmgfood.api.mapper.PedidoMapper;
 import com.lmg.lmgfood.api.mapper.PedidoResumoMapper;
+import com.lmg.lmgfood.api.model.PaginaCursorDTO;
 import com.lmg.lmgfood.api.model.PedidoDTO;
 import com.lmg.lmgfood.api.model.PedidoResumoDTO;
 import com.lmg.lmgfood.api.model.form.PedidoForm;
@@ -11,26 +13,36 @@ import com.lmg.lmgfood.domain.exception.NegocioException;
 import com.lmg.lmgfood.domain.model.Pedido;
 import com.lmg.lmgfood.domain.model.Usuario;
 import com.lmg.lmgfood.domain.repository.PedidoRepository;
+import com.lmg.lmgfood.domain.filter.PedidoCursor;
 import com.lmg.lmgfood.domain.filter.PedidoFilter;
 import com.lmg.lmgfood.domain.service.EmissaoPedidoService;
 import com.lmg.lmgfood.infra.repository.specification.PedidoSpecs;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping(value = "/pedidos")
 public class PedidoController {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     @Autowired
     private EmissaoPedidoService pedidoService;
 
@@ -49,15 +61,69 @@ public class PedidoController {
     @Autowired
     private EmissaoPedidoService emissaoPedidoService;
 
+    @Autowired
+    private PedidoFinalizadoCache pedidoFinalizadoCache;
+
     @GetMapping
     public List<PedidoResumoDTO> pesquisar(PedidoFilter filtro){
         List<Pedido> pedidos = pedidoRepository.findAll(PedidoSpecs.usandoFiltro(filtro));
         return pedidoResumoMapper.toCollectionModel(pedidos);
     }
 
+    /**
+     * Pesquisa paginada por cursor, o custo de cada página é o mesmo independente da profundidade
+     * @param cursor token retornado em proximoCursor da página anterior, ausente na primeira página
+     * @param tamanho quantidade de pedidos por página, limitado a {@value TAMANHO_MAXIMO_PAGINA}
+     */
+    @GetMapping(params = "paginacao=cursor")
+    public PaginaCursorDTO<PedidoResumoDTO> pesquisarComCursor(PedidoFilter filtro,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int tamanho) {
+        int tamanhoPagina = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+        PedidoCursor posicao = cursor == null ? null : PedidoCursor.decodificar(cursor);
+
+        //busca um registro a mais apenas para saber se existe próxima página
+        List<Pedido> pedidos = pedidoRepository.buscarComCursor(filtro, posicao, tamanhoPagina + 1);
+
+        String proximoCursor = null;
+        if (pedidos.size() > tamanhoPagina) {
+            pedidos = pedidos.subList(0, tamanhoPagina);
+            proximoCursor = PedidoCursor.de(pedidos.get(tamanhoPagina - 1)).codificar();
+        }
+
+        return new PaginaCursorDTO<>(pedidoResumoMapper.toCollectionModel(pedidos), proximoCursor);
+    }
+
+    /**
+     * Pedidos entregues ou cancelados não mudam mais e são respondidos do cache de respostas serializadas,
+     * com ETag forte e Cache-Control longo. Os demais são carregados e convertidos a cada consulta.
+     */
     @GetMapping(value = "/{codigoPedido}")
-    public PedidoDTO buscarPorId(@PathVariable String codigoPedido){
-        return pedidoMapper.toDTO(pedidoService.buscarOuFalhar(codigoPedido));
+    public ResponseEntity<?> buscarPorId(@PathVariable String codigoPedido, ServletWebRequest request){
+        var serializado = pedidoFinalizadoCache.buscar(codigoPedido);
+
+        if (serializado == null) {
+            Pedido pedido = pedidoService.buscarDetalheOuFalhar(codigoPedido);
+            PedidoDTO pedidoDTO = pedidoMapper.toDTO(pedido);
+
+            if (!pedido.getStatus().isFinal()) {
+                return ResponseEntity.ok(pedidoDTO);
+            }
+            serializado = pedidoFinalizadoCache.guardar(pedidoDTO);
+        }
+
+        // O ETag já está calculado, o ShallowEtagHeaderFilter não precisa copiar a resposta
+        ShallowEtagHeaderFilter.disableContentCaching(request.getRequest());
+
+        if (request.checkNotModified(serializado.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(PedidoFinalizadoCache.VALIDADE_HORAS, TimeUnit.HOURS).cachePrivate())
+                .eTag(serializado.getETag())
+                .body(serializado.getConteudo());
     }
 
     @PostMapping
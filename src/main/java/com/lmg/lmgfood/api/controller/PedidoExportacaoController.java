@@ -0,0 +1,157 @@
+package com.lmg.lmgfood.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lmg.lmgfood.api.mapper.PedidoResumoMapper;
+import com.lmg.lmgfood.api.model.PedidoResumoDTO;
+import com.lmg.lmgfood.domain.filter.PedidoFilter;
+import com.lmg.lmgfood.domain.service.ExportacaoPedidoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Exportação dos pedidos da pesquisa, escrevendo cada linha na resposta assim que é lida do banco
+ */
+@RestController
+@RequestMapping(value = "/pedidos/exportacao")
+public class PedidoExportacaoController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private static final String CABECALHO_CSV = "codigo,dataCriacao,status,subtotal,taxaFrete,valorTotal,"
+            + "restauranteId,restauranteNome,clienteId,clienteNome";
+
+    @Autowired
+    private ExportacaoPedidoService exportacaoPedidoService;
+
+    @Autowired
+    private PedidoResumoMapper pedidoResumoMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Um único método para os dois formatos: com dois mapeamentos diferenciados só pelo produces, um Accept
+     * genérico (o padrão do curl e dos navegadores) não tem como escolher entre eles. O NDJSON é o formato
+     * padrão, e o CSV é usado quando o cliente o prefere no Accept.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportarPedidos(PedidoFilter filtro, ServletWebRequest request) {
+        if (TEXT_CSV.equals(formatoAceito(request))) {
+            return exportarCsv(filtro, request);
+        }
+        return exportarNdjson(filtro, request);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportarNdjson(PedidoFilter filtro, ServletWebRequest request) {
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            exportar(filtro, writer, pedido -> objectMapper.writeValueAsString(pedido));
+        };
+
+        return criarResposta(request, MediaType.APPLICATION_NDJSON, "pedidos.ndjson", body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportarCsv(PedidoFilter filtro, ServletWebRequest request) {
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(CABECALHO_CSV);
+            writer.newLine();
+
+            exportar(filtro, writer, this::toLinhaCsv);
+        };
+
+        return criarResposta(request, TEXT_CSV, "pedidos.csv", body);
+    }
+
+    // Primeiro formato atendido na ordem de preferência do Accept, NDJSON quando não há Accept ou ele é genérico
+    private MediaType formatoAceito(ServletWebRequest request) {
+        List<MediaType> aceitos = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        MediaType.sortBySpecificityAndQuality(aceitos);
+
+        for (MediaType aceito : aceitos) {
+            if (aceito.includes(MediaType.APPLICATION_NDJSON)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+            if (aceito.includes(TEXT_CSV)) {
+                return TEXT_CSV;
+            }
+        }
+        return MediaType.APPLICATION_NDJSON;
+    }
+
+    private void exportar(PedidoFilter filtro, Writer writer, FormatoLinha formato) throws IOException {
+        try {
+            exportacaoPedidoService.exportar(filtro, pedido -> {
+                try {
+                    writer.write(formato.formatar(pedidoResumoMapper.toDTO(pedido)));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private ResponseEntity<StreamingResponseBody> criarResposta(ServletWebRequest request, MediaType mediaType,
+                                                                String nomeArquivo, StreamingResponseBody body) {
+        // O ShallowEtagHeaderFilter guardaria a exportação inteira em memória para calcular o ETag
+        ShallowEtagHeaderFilter.disableContentCaching(request.getRequest());
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + nomeArquivo)
+                .body(body);
+    }
+
+    private String toLinhaCsv(PedidoResumoDTO pedido) {
+        return String.join(",",
+                valorCsv(pedido.getCodigo()),
+                valorCsv(pedido.getDataCriacao()),
+                valorCsv(pedido.getStatus()),
+                valorCsv(pedido.getSubtotal()),
+                valorCsv(pedido.getTaxaFrete()),
+                valorCsv(pedido.getValorTotal()),
+                valorCsv(pedido.getRestaurante().getId()),
+                valorCsv(pedido.getRestaurante().getNome()),
+                valorCsv(pedido.getCliente().getId()),
+                valorCsv(pedido.getCliente().getNome()));
+    }
+
+    private String valorCsv(Object valor) {
+        String texto = Objects.toString(valor, "");
+
+        if (texto.contains(",") || texto.contains("\"") || texto.contains("\n") || texto.contains("\r")) {
+            return "\"" + texto.replace("\"", "\"\"") + "\"";
+        }
+        return texto;
+    }
+
+    @FunctionalInterface
+    private interface FormatoLinha {
+        String formatar(PedidoResumoDTO pedido) throws IOException;
+    }
+}
@@ -4,18 +4,33 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lmg.lmgfood.api.mapper.RestauranteMapper;
+import com.lmg.lmgfood.api.model.AtivacaoRestauranteDTO;
+import com.lmg.lmgfood.api.model.PaginaCursorDTO;
+import com.lmg.lmgfood.api.model.PaginaDTO;
 import com.lmg.lmgfood.api.model.RestauranteDTO;
+import com.lmg.lmgfood.api.model.RestauranteProximoDTO;
 import com.lmg.lmgfood.api.model.form.RestauranteForm;
 import com.lmg.lmgfood.api.model.view.RestauranteView;
+import com.lmg.lmgfood.core.web.RespostaCondicional;
 import com.lmg.lmgfood.domain.exception.CidadeNaoEncontradaException;
 import com.lmg.lmgfood.domain.exception.CozinhaNaoEncontradaException;
-import com.lmg.lmgfood.domain.exception.EntidadeNaoEncontradaException;
 import com.lmg.lmgfood.domain.exception.NegocioException;
+import com.lmg.lmgfood.domain.filter.RestauranteCursor;
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.RestauranteResumo;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
+import com.lmg.lmgfood.domain.model.enums.SituacaoAtivacao;
 import com.lmg.lmgfood.domain.service.CadastroRestauranteService;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.util.ReflectionUtils;
@@ -26,19 +41,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/restaurantes")
 public class RestauranteController {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private static final double RAIO_MAXIMO_KM = 50;
+
+    private static final Set<String> PROPRIEDADES_ORDENACAO = Set.of("id", "nome", "taxaFrete");
+
     @Autowired
     private CadastroRestauranteService cadastroRestauranteService;
 
@@ -73,16 +98,105 @@ public class RestauranteController {
 
     }
 
+    /*
+     * As listagens e a consulta por código respondem 304 pela versão dos restaurantes (maior data de atualização
+     * e quantidade), verificada antes de executar a consulta e a serialização
+     */
+
     @JsonView(RestauranteView.Resumo.class)
     @GetMapping
-    public List<RestauranteDTO> listar() {
-        return mapper.toCollectionDTO(cadastroRestauranteService.buscarTodos());
+    public ResponseEntity<List<RestauranteDTO>> listar(ServletWebRequest request) {
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        return RespostaCondicional.ok(versao, mapper.toResumoDTO(cadastroRestauranteService.buscarTodosResumo()));
     }
 
     @JsonView(RestauranteView.ApenasNome.class)
     @GetMapping(params = "projecao=apenas-nome")
-    public List<RestauranteDTO> listarApenasNome() {
-        return listar();
+    public ResponseEntity<List<RestauranteDTO>> listarApenasNome(ServletWebRequest request) {
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        return RespostaCondicional.ok(versao, mapper.toApenasNomeDTO(cadastroRestauranteService.buscarTodosApenasNome()));
+    }
+
+    @GetMapping(params = "projecao=completo")
+    public ResponseEntity<List<RestauranteDTO>> listarCompleto(ServletWebRequest request) {
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        return RespostaCondicional.ok(versao, mapper.toCompletoDTO(cadastroRestauranteService.buscarTodosCompleto()));
+    }
+
+    /**
+     * Listagem paginada por offset com os totais, ex: ?paginacao=pagina&page=0&size=20&sort=nome,asc
+     */
+    @JsonView(RestauranteView.Resumo.class)
+    @GetMapping(params = "paginacao=pagina")
+    public ResponseEntity<PaginaDTO<RestauranteDTO>> listarPagina(@PageableDefault(size = 20) Pageable pageable,
+                                                                  ServletWebRequest request) {
+        Pageable paginacao = validarPaginacao(pageable);
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        Page<RestauranteResumo> pagina = cadastroRestauranteService.buscarPaginaResumo(paginacao);
+        return RespostaCondicional.ok(versao, PaginaDTO.de(pagina, mapper.toResumoDTO(pagina.getContent())));
+    }
+
+    /**
+     * Mesma listagem por offset, porém sem o count, informa apenas se existe próxima página
+     */
+    @JsonView(RestauranteView.Resumo.class)
+    @GetMapping(params = "paginacao=fatia")
+    public ResponseEntity<PaginaDTO<RestauranteDTO>> listarFatia(@PageableDefault(size = 20) Pageable pageable,
+                                                                 ServletWebRequest request) {
+        Pageable paginacao = validarPaginacao(pageable);
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        Slice<RestauranteResumo> fatia = cadastroRestauranteService.buscarFatiaResumo(paginacao);
+        return RespostaCondicional.ok(versao, PaginaDTO.de(fatia, mapper.toResumoDTO(fatia.getContent())));
+    }
+
+    /**
+     * Listagem paginada por cursor, ordenada pelo código do restaurante
+     * @param cursor token retornado em proximoCursor da página anterior, ausente na primeira página
+     * @param tamanho quantidade de restaurantes por página, limitado a {@value TAMANHO_MAXIMO_PAGINA}
+     */
+    @JsonView(RestauranteView.Resumo.class)
+    @GetMapping(params = "paginacao=cursor")
+    public ResponseEntity<PaginaCursorDTO<RestauranteDTO>> listarComCursor(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int tamanho,
+                                                                           ServletWebRequest request) {
+        int tamanhoPagina = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+        Long ultimoId = cursor == null ? null : RestauranteCursor.decodificar(cursor).getId();
+
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao();
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        //busca um registro a mais apenas para saber se existe próxima página
+        List<RestauranteResumo> restaurantes = cadastroRestauranteService.buscarResumoAposId(ultimoId, tamanhoPagina + 1);
+
+        String proximoCursor = null;
+        if (restaurantes.size() > tamanhoPagina) {
+            restaurantes = restaurantes.subList(0, tamanhoPagina);
+            proximoCursor = RestauranteCursor.de(restaurantes.get(tamanhoPagina - 1)).codificar();
+        }
+
+        return RespostaCondicional.ok(versao, new PaginaCursorDTO<>(mapper.toResumoDTO(restaurantes), proximoCursor));
     }
     /**
      * Exemplo 1 - usando JsonView para retornar respostas da api
@@ -125,9 +239,46 @@ public class RestauranteController {
 //    public List<RestauranteDTO> listarApenasNome() {
 //        return buscarTodos();
 //    }
+    /**
+     * Busca por nome do restaurante, cozinha e produtos, ordenada por relevância
+     * @param termo palavras buscadas, aceita palavras incompletas e pequenos erros de digitação
+     * @param tamanho quantidade máxima de restaurantes, limitado a {@value TAMANHO_MAXIMO_PAGINA}
+     */
+    @JsonView(RestauranteView.Resumo.class)
+    @GetMapping("/busca")
+    public List<RestauranteDTO> buscar(@RequestParam String termo, @RequestParam(defaultValue = "20") int tamanho) {
+        int limite = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+        return mapper.toResumoDTO(cadastroRestauranteService.buscarResumoPorTermo(termo, limite));
+    }
+
+    /**
+     * Restaurantes ativos e abertos mais próximos da localização informada
+     * @param raio distância máxima em quilômetros, limitada a {@value RAIO_MAXIMO_KM}
+     * @param tamanho quantidade máxima de restaurantes, limitado a {@value TAMANHO_MAXIMO_PAGINA}
+     */
+    @GetMapping("/proximos")
+    public List<RestauranteProximoDTO> buscarProximos(@RequestParam double latitude, @RequestParam double longitude,
+                                                      @RequestParam(defaultValue = "5") double raio,
+                                                      @RequestParam(defaultValue = "20") int tamanho) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new NegocioException(String.format("A localização (%s, %s) é inválida", latitude, longitude));
+        }
+        if (raio <= 0 || raio > RAIO_MAXIMO_KM) {
+            throw new NegocioException(String.format("O raio deve ser maior que zero e no máximo %.0f km", RAIO_MAXIMO_KM));
+        }
+
+        int limite = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+        return mapper.toProximosDTO(cadastroRestauranteService.buscarProximos(latitude, longitude, raio, limite));
+    }
+
     @GetMapping("/{restauranteId}")
-    public RestauranteDTO buscarPorId(@PathVariable Long restauranteId) {
-        return mapper.toDTO(cadastroRestauranteService.buscarOuFalhar(restauranteId));
+    public ResponseEntity<RestauranteDTO> buscarPorId(@PathVariable Long restauranteId, ServletWebRequest request) {
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao(restauranteId);
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
+        return RespostaCondicional.ok(versao, mapper.toDTO(cadastroRestauranteService.buscarOuFalhar(restauranteId)));
     }
 
 
@@ -144,24 +295,17 @@ public class RestauranteController {
         cadastroRestauranteService.inativar(restauranteId);
     }
 
+    /**
+     * Ativa os restaurantes existentes e informa a situação de cada código, inclusive dos que não foram encontrados
+     */
     @PutMapping("/ativacoes")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void ativarMultiplos(@RequestBody List<Long> restauranteId) {
-        try {
-            cadastroRestauranteService.ativar(restauranteId);
-        } catch (EntidadeNaoEncontradaException e) {
-            throw new NegocioException(e.getMessage(), e);
-        }
+    public List<AtivacaoRestauranteDTO> ativarMultiplos(@RequestBody List<Long> restauranteIds) {
+        return toAtivacoesDTO(cadastroRestauranteService.ativar(restauranteIds));
     }
 
     @DeleteMapping("/ativacoes")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void inativarMultiplos(@RequestBody List<Long> restauranteIds) {
-        try {
-            cadastroRestauranteService.inativar(restauranteIds);
-        } catch (EntidadeNaoEncontradaException e) {
-            throw new NegocioException(e.getMessage(), e);
-        }
+    public List<AtivacaoRestauranteDTO> inativarMultiplos(@RequestBody List<Long> restauranteIds) {
+        return toAtivacoesDTO(cadastroRestauranteService.inativar(restauranteIds));
     }
 
     @PutMapping("/{restauranteId}/abertura")
@@ -176,6 +320,27 @@ public class RestauranteController {
         cadastroRestauranteService.fechar(restauranteId);
     }
 
+    private List<AtivacaoRestauranteDTO> toAtivacoesDTO(Map<Long, SituacaoAtivacao> situacoes) {
+        return situacoes.entrySet().stream()
+                .map(situacao -> new AtivacaoRestauranteDTO(situacao.getKey(), situacao.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // Só aceita ordenar por propriedades da projeção e desempata pelo código para a paginação ser estável
+    private Pageable validarPaginacao(Pageable pageable) {
+        pageable.getSort().forEach(ordem -> {
+            if (!PROPRIEDADES_ORDENACAO.contains(ordem.getProperty())) {
+                throw new NegocioException(String.format("Não é possível ordenar pela propriedade '%s'", ordem.getProperty()));
+            }
+        });
+
+        Sort ordenacao = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), TAMANHO_MAXIMO_PAGINA), ordenacao);
+    }
+
     private void merge(Map<String, Object> dadosOrigem, Restaurante restauranteDestino, HttpServletRequest request) {
         ServletServerHttpRequest serverHttpRequest = new ServletServerHttpRequest(request);
 
@@ -3,13 +3,16 @@ package com.lmg.lmgfood.api.controller;
 import com.lmg.lmgfood.api.mapper.ProdutoMapper;
 import com.lmg.lmgfood.api.model.ProdutoDTO;
 import com.lmg.lmgfood.api.model.form.ProdutoForm;
+import com.lmg.lmgfood.core.web.RespostaCondicional;
 import com.lmg.lmgfood.domain.model.Produto;
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
 import com.lmg.lmgfood.domain.repository.ProdutoRepository;
 import com.lmg.lmgfood.domain.service.CadastroProdutoService;
 import com.lmg.lmgfood.domain.service.CadastroRestauranteService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -39,23 +43,36 @@ public class RestauranteProdutoController {
     private ProdutoMapper mapper;
 
     @GetMapping
-    public List<ProdutoDTO> listar(@PathVariable Long restauranteId, @RequestParam(required = false) boolean incluirInativos){
+    public ResponseEntity<List<ProdutoDTO>> listar(@PathVariable Long restauranteId,
+                                                   @RequestParam(required = false) boolean incluirInativos,
+                                                   ServletWebRequest request){
+        // Salvar um produto atualiza a versão do restaurante, que serve de versão do cardápio
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao(restauranteId);
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
+
         Restaurante restaurante = cadastroRestauranteService.buscarOuFalhar(restauranteId);
 
         if (incluirInativos) {
-            return this.mapper.toList(produtoRepository.findTodosByRestaurante(restaurante));
+            return RespostaCondicional.ok(versao, this.mapper.toList(produtoRepository.findTodosByRestaurante(restaurante)));
         }
 
-        return this.mapper.toList(produtoRepository.findAtivosByRestaurante(restaurante));
+        return RespostaCondicional.ok(versao, this.mapper.toList(produtoRepository.findAtivosByRestaurante(restaurante)));
 
     }
 
     @GetMapping("/{produtoId}")
-    public ProdutoDTO buscarPorId(@PathVariable Long restauranteId,
-                                  @PathVariable Long produtoId){
+    public ResponseEntity<ProdutoDTO> buscarPorId(@PathVariable Long restauranteId,
+                                                  @PathVariable Long produtoId,
+                                                  ServletWebRequest request){
+        VersaoRecurso versao = cadastroRestauranteService.buscarVersao(restauranteId);
+        if (RespostaCondicional.naoModificado(request, versao)) {
+            return null;
+        }
 
         Produto produto = cadastroProdutoService.buscarOuFalhar(restauranteId, produtoId);
-        return mapper.toDTO(produto);
+        return RespostaCondicional.ok(versao, mapper.toDTO(produto));
     }
 
     @PostMapping
@@ -0,0 +1,33 @@
+package com.lmg.lmgfood.api.controller;
+
+import com.lmg.lmgfood.api.model.TokenDTO;
+import com.lmg.lmgfood.core.security.TokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/autenticacao")
+public class TokenController {
+
+    @Autowired
+    private TokenService tokenService;
+
+    /**
+     * Emite um token de acesso para o usuário autenticado com Basic, as próximas requisições usam
+     * "Authorization: Bearer token" até o token expirar
+     */
+    @PostMapping("/token")
+    public TokenDTO emitir(Authentication autenticacao) {
+        // Um token não gera outro, senão o acesso poderia ser renovado para sempre sem a senha
+        if (!(autenticacao instanceof UsernamePasswordAuthenticationToken)) {
+            throw new AccessDeniedException("O token de acesso deve ser solicitado com usuário e senha");
+        }
+
+        return new TokenDTO(tokenService.emitir(autenticacao), "Bearer", tokenService.getValidade().getSeconds());
+    }
+}
@@ -7,17 +7,23 @@ import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.exception.EntidadeNaoEncontradaException;
 import com.lmg.lmgfood.domain.exception.NegocioException;
+import com.lmg.lmgfood.domain.exception.PedidoAlteradoConcorrentementeException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static com.fasterxml.jackson.databind.JsonMappingException.Reference;
@@ -130,6 +136,46 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
 		return handleExceptionInternal(ex, problem, new HttpHeaders(), status, request);
 	}
 
+	@ExceptionHandler(PedidoAlteradoConcorrentementeException.class)
+	public ResponseEntity<?> handleTratarPedidoAlteradoConcorrentementeException(PedidoAlteradoConcorrentementeException ex,
+			WebRequest request) {
+		HttpStatus status = HttpStatus.CONFLICT;
+		ProblemType problemType = ProblemType.CONFLITO_ALTERACAO;
+		String detail = ex.getMessage();
+
+		var problem = createProblemBuilder(status, problemType, detail).build();
+
+		return handleExceptionInternal(ex, problem, new HttpHeaders(), status, request);
+	}
+
+	// Lançada pelo @Version quando outra transação gravou o registro depois que ele foi carregado
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<?> handleTratarObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex,
+			WebRequest request) {
+		HttpStatus status = HttpStatus.CONFLICT;
+		ProblemType problemType = ProblemType.CONFLITO_ALTERACAO;
+		String detail = "O registro foi alterado por outra requisição, consulte novamente e tente de novo";
+
+		var problem = createProblemBuilder(status, problemType, detail)
+				.userMessage(detail)
+				.build();
+
+		return handleExceptionInternal(ex, problem, new HttpHeaders(), status, request);
+	}
+
+	@ExceptionHandler(RejectedExecutionException.class)
+	public ResponseEntity<?> handleTratarRejectedExecutionException(RejectedExecutionException ex, WebRequest request) {
+		HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+		ProblemType problemType = ProblemType.SERVICO_INDISPONIVEL;
+		String detail = "O sistema está processando muitas solicitações no momento. Tente novamente em instantes.";
+
+		var problem = createProblemBuilder(status, problemType, detail)
+				.userMessage(detail)
+				.build();
+
+		return handleExceptionInternal(ex, problem, new HttpHeaders(), status, request);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<Object> handleUncaught(Exception ex, WebRequest request) {
 		HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
@@ -158,8 +204,25 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
 					.status(status.value())
 					.build();
 		}
+
+		// Os downloads de PDF chegam com "Accept: application/pdf", e o problema só é escrito em JSON
+		if (headers.getContentType() == null && !aceitaJson(request)) {
+			var cabecalhos = new HttpHeaders();
+			cabecalhos.putAll(headers);
+			cabecalhos.setContentType(MediaType.APPLICATION_JSON);
+			headers = cabecalhos;
+		}
 		return super.handleExceptionInternal(ex, body, headers, status, request);
 	}
+
+	private boolean aceitaJson(WebRequest request) {
+		try {
+			List<MediaType> aceitos = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+			return aceitos.isEmpty() || aceitos.stream().anyMatch(aceito -> aceito.isCompatibleWith(MediaType.APPLICATION_JSON));
+		} catch (InvalidMediaTypeException e) {
+			return true;
+		}
+	}
 	
 	private Problem.ProblemBuilder createProblemBuilder(HttpStatus status, ProblemType problemType, String detail){
 		return Problem.builder()
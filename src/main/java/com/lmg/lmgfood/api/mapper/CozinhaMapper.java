@@ -2,20 +2,19 @@ package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.CozinhaDTO;
 import com.lmg.lmgfood.api.model.form.CozinhaForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Cozinha;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
-@Component
-public class CozinhaMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class CozinhaMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
-    public CozinhaDTO toDTO(Cozinha cozinha){
-        return modelMapper.map(cozinha, CozinhaDTO.class);
-    }
+    public abstract CozinhaDTO toDTO(Cozinha cozinha);
 
     public Cozinha toDomainObject(CozinhaForm cozinhaForm) {
         return modelMapper.map(cozinhaForm, Cozinha.class);
@@ -0,0 +1,18 @@
+package com.lmg.lmgfood.api.mapper;
+
+import com.lmg.lmgfood.api.model.CidadeResumoDTO;
+import com.lmg.lmgfood.api.model.EnderecoDTO;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
+import com.lmg.lmgfood.domain.model.Cidade;
+import com.lmg.lmgfood.domain.model.Endereco;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapStructConfig.class)
+public interface EnderecoMapper {
+
+    EnderecoDTO toDTO(Endereco endereco);
+
+    @Mapping(target = "estado", source = "estado.nome")
+    CidadeResumoDTO toResumoDTO(Cidade cidade);
+}
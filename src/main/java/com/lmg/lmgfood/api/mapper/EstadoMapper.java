@@ -2,20 +2,19 @@ package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.EstadoDTO;
 import com.lmg.lmgfood.api.model.form.EstadoForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Estado;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
-@Component
-public class EstadoMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class EstadoMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
-    public EstadoDTO toDTO(Estado estado) {
-        return modelMapper.map(estado, EstadoDTO.class);
-    }
+    public abstract EstadoDTO toDTO(Estado estado);
 
 
     public Estado toDomainObject(EstadoForm estadoForm) {
@@ -2,35 +2,29 @@ package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.FormaPagamentoDTO;
 import com.lmg.lmgfood.api.model.form.FormaPagamentoForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.FormaPagamento;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class FormaPagamentoMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class FormaPagamentoMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
-    public FormaPagamentoDTO toDTO(FormaPagamento formaPagamento) {
-        return modelMapper.map(formaPagamento, FormaPagamentoDTO.class);
-    }
+    public abstract FormaPagamentoDTO toDTO(FormaPagamento formaPagamento);
 
 
     public FormaPagamento toDomainObject(FormaPagamentoForm formaPagamentoForm) {
         return modelMapper.map(formaPagamentoForm, FormaPagamento.class);
     }
 
-    public List<FormaPagamentoDTO> toCollectionModel(Collection<FormaPagamento> formaPagamentos){
-        return formaPagamentos.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public abstract List<FormaPagamentoDTO> toCollectionModel(Collection<FormaPagamento> formaPagamentos);
 
     /**
      * Copia os dados para o objeto de dominio
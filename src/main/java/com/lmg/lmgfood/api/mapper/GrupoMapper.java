@@ -2,31 +2,25 @@ package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.GrupoDTO;
 import com.lmg.lmgfood.api.model.form.GrupoForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Grupo;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class GrupoMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class GrupoMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
     //Assembler
-    public GrupoDTO toDTO(Grupo grupo) {
-        return modelMapper.map(grupo, GrupoDTO.class);
-    }
+    public abstract GrupoDTO toDTO(Grupo grupo);
 
-    public List<GrupoDTO> toList(Collection<Grupo> grupos) {
-        return grupos.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public abstract List<GrupoDTO> toList(Collection<Grupo> grupos);
 
     //disassembler
     public Grupo toDomainObject(GrupoForm grupoForm) {
@@ -1,28 +1,33 @@
 package com.lmg.lmgfood.api.mapper;
 
+import com.lmg.lmgfood.api.model.ItemPedidoDTO;
 import com.lmg.lmgfood.api.model.PedidoDTO;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
+import com.lmg.lmgfood.domain.model.ItemPedido;
 import com.lmg.lmgfood.domain.model.Pedido;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class PedidoMapper {
+@Mapper(config = MapStructConfig.class, uses = EnderecoMapper.class)
+public abstract class PedidoMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
+    public abstract PedidoDTO toDTO(Pedido pedido);
 
-    public PedidoDTO toDTO(Pedido pedido) {
-        return modelMapper.map(pedido, PedidoDTO.class);
-    }
+    public abstract List<PedidoDTO> toCollectionModel(List<Pedido> pedidos);
 
-    public List<PedidoDTO> toCollectionModel(List<Pedido> pedidos) {
-        return pedidos.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    @Mapping(target = "produtoId", source = "produto.id")
+    @Mapping(target = "produtoNome", source = "produto.nome")
+    protected abstract ItemPedidoDTO toItemDTO(ItemPedido itemPedido);
 
+    /**
+     * As datas de confirmação, cancelamento e entrega são gravadas com LocalDateTime.now(), no fuso da aplicação
+     */
+    protected OffsetDateTime toOffsetDateTime(LocalDateTime dataHora) {
+        return dataHora == null ? null : dataHora.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
 }
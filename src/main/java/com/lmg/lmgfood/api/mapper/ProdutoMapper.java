@@ -2,23 +2,21 @@ package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.ProdutoDTO;
 import com.lmg.lmgfood.api.model.form.ProdutoForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Produto;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class ProdutoMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class ProdutoMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
-    public ProdutoDTO toDTO(Produto produto) {
-        return modelMapper.map(produto, ProdutoDTO.class);
-    }
+    public abstract ProdutoDTO toDTO(Produto produto);
 
     public Produto toDomainObject(ProdutoForm produtoForm) {
         return modelMapper.map(produtoForm, Produto.class);
@@ -28,10 +26,6 @@ public class ProdutoMapper {
         modelMapper.map(produtoForm, produto);
     }
 
-    public List<ProdutoDTO> toList(List<Produto> produtos) {
-        return produtos.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public abstract List<ProdutoDTO> toList(List<Produto> produtos);
 
 }
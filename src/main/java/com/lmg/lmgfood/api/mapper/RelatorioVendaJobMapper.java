@@ -0,0 +1,12 @@
+package com.lmg.lmgfood.api.mapper;
+
+import com.lmg.lmgfood.api.model.RelatorioVendaJobDTO;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
+import com.lmg.lmgfood.domain.model.dto.RelatorioVendaJob;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public abstract class RelatorioVendaJobMapper {
+
+    public abstract RelatorioVendaJobDTO toDTO(RelatorioVendaJob relatorioVendaJob);
+}
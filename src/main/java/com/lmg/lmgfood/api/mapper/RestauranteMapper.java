@@ -1,32 +1,74 @@
 package com.lmg.lmgfood.api.mapper;
 
 import com.lmg.lmgfood.api.model.RestauranteDTO;
+import com.lmg.lmgfood.api.model.RestauranteProximoDTO;
 import com.lmg.lmgfood.api.model.form.RestauranteForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Cidade;
 import com.lmg.lmgfood.domain.model.Cozinha;
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.RestauranteApenasNome;
+import com.lmg.lmgfood.domain.model.dto.RestauranteCompleto;
+import com.lmg.lmgfood.domain.model.dto.RestauranteProximo;
+import com.lmg.lmgfood.domain.model.dto.RestauranteResumo;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class RestauranteMapper {
+@Mapper(config = MapStructConfig.class, uses = EnderecoMapper.class)
+public abstract class RestauranteMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
-    public List<RestauranteDTO> toCollectionDTO(List<Restaurante> restaurantes) {
-        return restaurantes.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public abstract List<RestauranteDTO> toCollectionDTO(List<Restaurante> restaurantes);
 
-    public RestauranteDTO toDTO(Restaurante restaurante) {
-        return modelMapper.map(restaurante, RestauranteDTO.class);
-    }
+    public abstract RestauranteDTO toDTO(Restaurante restaurante);
+
+    // Projeções da listagem: os campos fora da visão ficam nulos e o @JsonView do controller não os serializa
+
+    @Mapping(target = "taxaFrete", ignore = true)
+    @Mapping(target = "cozinha", ignore = true)
+    @Mapping(target = "ativo", ignore = true)
+    @Mapping(target = "endereco", ignore = true)
+    @Mapping(target = "aberto", ignore = true)
+    public abstract RestauranteDTO toDTO(RestauranteApenasNome restaurante);
+
+    @Mapping(target = "cozinha.id", source = "cozinhaId")
+    @Mapping(target = "cozinha.nome", source = "cozinhaNome")
+    @Mapping(target = "ativo", ignore = true)
+    @Mapping(target = "endereco", ignore = true)
+    @Mapping(target = "aberto", ignore = true)
+    public abstract RestauranteDTO toDTO(RestauranteResumo restaurante);
+
+    @Mapping(target = "cozinha.id", source = "cozinhaId")
+    @Mapping(target = "cozinha.nome", source = "cozinhaNome")
+    @Mapping(target = "endereco.cep", source = "enderecoCep")
+    @Mapping(target = "endereco.logradouro", source = "enderecoLogradouro")
+    @Mapping(target = "endereco.numero", source = "enderecoNumero")
+    @Mapping(target = "endereco.complemente", source = "enderecoComplemento")
+    @Mapping(target = "endereco.bairro", source = "enderecoBairro")
+    @Mapping(target = "endereco.latitude", source = "enderecoLatitude")
+    @Mapping(target = "endereco.longitude", source = "enderecoLongitude")
+    @Mapping(target = "endereco.cidade.id", source = "cidadeId")
+    @Mapping(target = "endereco.cidade.nome", source = "cidadeNome")
+    @Mapping(target = "endereco.cidade.estado", source = "estadoNome")
+    public abstract RestauranteDTO toDTO(RestauranteCompleto restaurante);
+
+    @Mapping(target = "cozinha.id", source = "cozinhaId")
+    @Mapping(target = "cozinha.nome", source = "cozinhaNome")
+    public abstract RestauranteProximoDTO toProximoDTO(RestauranteProximo restaurante);
+
+    public abstract List<RestauranteProximoDTO> toProximosDTO(List<RestauranteProximo> restaurantes);
+
+    public abstract List<RestauranteDTO> toApenasNomeDTO(List<RestauranteApenasNome> restaurantes);
+
+    public abstract List<RestauranteDTO> toResumoDTO(List<RestauranteResumo> restaurantes);
+
+    public abstract List<RestauranteDTO> toCompletoDTO(List<RestauranteCompleto> restaurantes);
 
     /**
      * Método para desmonstar o objeto
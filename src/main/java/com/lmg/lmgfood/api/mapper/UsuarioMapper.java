@@ -4,31 +4,25 @@ import com.lmg.lmgfood.api.model.UsuarioDTO;
 import com.lmg.lmgfood.api.model.form.AlterarSenhaUsuarioForm;
 import com.lmg.lmgfood.api.model.form.AlterarUsuarioForm;
 import com.lmg.lmgfood.api.model.form.UsuarioForm;
+import com.lmg.lmgfood.core.mapstruct.MapStructConfig;
 import com.lmg.lmgfood.domain.model.Usuario;
+import org.mapstruct.Mapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class UsuarioMapper {
+@Mapper(config = MapStructConfig.class)
+public abstract class UsuarioMapper {
 
     @Autowired
     private ModelMapper modelMapper;
 
     //Assembler
-    public UsuarioDTO toDTO(Usuario usuario) {
-        return modelMapper.map(usuario, UsuarioDTO.class);
-    }
+    public abstract UsuarioDTO toDTO(Usuario usuario);
 
-    public List<UsuarioDTO> toList(Collection<Usuario> usuarios) {
-        return usuarios.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-    }
+    public abstract List<UsuarioDTO> toList(Collection<Usuario> usuarios);
 
     //disassembler
     public Usuario toDomainObject(UsuarioForm usuarioForm) {
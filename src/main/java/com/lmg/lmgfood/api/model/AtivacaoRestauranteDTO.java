@@ -0,0 +1,16 @@
+package com.lmg.lmgfood.api.model;
+
+import com.lmg.lmgfood.domain.model.enums.SituacaoAtivacao;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class AtivacaoRestauranteDTO {
+
+    private Long restauranteId;
+    private SituacaoAtivacao situacao;
+
+}
@@ -3,6 +3,7 @@ package com.lmg.lmgfood.api.model;
 import lombok.Data;
 
 import javax.persistence.Embeddable;
+import java.math.BigDecimal;
 
 @Data
 @Embeddable
@@ -13,5 +14,7 @@ public class EnderecoDTO {
 	private String numero;
 	private String complemente;
 	private String bairro;
+	private BigDecimal latitude;
+	private BigDecimal longitude;
 	private CidadeResumoDTO cidade;
 }
@@ -0,0 +1,22 @@
+package com.lmg.lmgfood.api.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.lmg.lmgfood.api.model.view.RestauranteView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonView({RestauranteView.Resumo.class, RestauranteView.ApenasNome.class})
+public class PaginaCursorDTO<T> {
+
+    private List<T> conteudo;
+
+    // Token opaco para buscar a próxima página, nulo quando não existem mais registros
+    private String proximoCursor;
+
+}
@@ -0,0 +1,46 @@
+package com.lmg.lmgfood.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.lmg.lmgfood.api.model.view.RestauranteView;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Página de resultados por offset. Os totais só são preenchidos quando a consulta executou o count,
+ * a paginação por fatia informa apenas se existe próxima página.
+ */
+@Getter
+@Setter
+@JsonView({RestauranteView.Resumo.class, RestauranteView.ApenasNome.class})
+public class PaginaDTO<T> {
+
+    private List<T> conteudo;
+    private int numero;
+    private int tamanho;
+    private boolean temProxima;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElementos;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPaginas;
+
+    public static <T> PaginaDTO<T> de(Slice<?> fatia, List<T> conteudo) {
+        var pagina = new PaginaDTO<T>();
+        pagina.setConteudo(conteudo);
+        pagina.setNumero(fatia.getNumber());
+        pagina.setTamanho(fatia.getSize());
+        pagina.setTemProxima(fatia.hasNext());
+
+        if (fatia instanceof Page) {
+            pagina.setTotalElementos(((Page<?>) fatia).getTotalElements());
+            pagina.setTotalPaginas(((Page<?>) fatia).getTotalPages());
+        }
+        return pagina;
+    }
+}
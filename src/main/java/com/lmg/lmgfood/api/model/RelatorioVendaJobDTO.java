@@ -0,0 +1,17 @@
+package com.lmg.lmgfood.api.model;
+
+import com.lmg.lmgfood.domain.model.enums.StatusRelatorio;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+public class RelatorioVendaJobDTO {
+
+    private String id;
+    private StatusRelatorio status;
+    private OffsetDateTime dataSolicitacao;
+
+}
@@ -0,0 +1,19 @@
+package com.lmg.lmgfood.api.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+public class RestauranteProximoDTO {
+
+    private Long id;
+    private String nome;
+    private BigDecimal taxaFrete;
+    private CozinhaDTO cozinha;
+
+    // Distância em quilômetros até a localização informada
+    private Double distancia;
+}
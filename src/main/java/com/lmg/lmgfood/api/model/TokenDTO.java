@@ -0,0 +1,18 @@
+package com.lmg.lmgfood.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TokenDTO {
+
+    private String token;
+    private String tipo;
+
+    // Validade do token em segundos
+    private long expiraEm;
+
+}
@@ -0,0 +1,16 @@
+package com.lmg.lmgfood.api.model;
+
+import com.lmg.lmgfood.domain.model.enums.SituacaoTransicao;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TransicaoPedidoDTO {
+
+    private String codigo;
+    private SituacaoTransicao situacao;
+
+}
@@ -4,8 +4,11 @@ import lombok.Getter;
 import lombok.Setter;
 
 import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.math.BigDecimal;
 
 @Getter
 @Setter
@@ -25,6 +28,14 @@ public class EnderecoForm {
     @NotBlank
     private String bairro;
 
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private BigDecimal latitude;
+
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private BigDecimal longitude;
+
     @Valid
     @NotNull
     private CidadeIdForm cidade;
@@ -0,0 +1,21 @@
+package com.lmg.lmgfood.api.model.form;
+
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+public class TransicaoPedidosForm {
+
+    @NotNull
+    @Size(min = 1, max = 500)
+    private List<String> codigos;
+
+    @NotNull
+    private StatusPedido status;
+}
@@ -1,18 +1,25 @@
 package com.lmg.lmgfood.core;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import javax.servlet.Filter;
-
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /**
+     * O ShallowEtagHeaderFilter guarda a resposta inteira em memória e calcula o MD5 depois de executar a consulta,
+     * então fica restrito aos cadastros pequenos sem data de atualização. Restaurantes, produtos e formas de pagamento
+     * usam ETag pela versão (RespostaCondicional) e /estatisticas responde PDFs, ambos ficam fora do filtro.
+     */
     @Bean
-    public Filter shallowEtagHeaderFilter(){
-        return new ShallowEtagHeaderFilter();
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter(){
+        var registro = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registro.addUrlPatterns("/cozinhas/*", "/cidades/*", "/estados/*", "/grupos/*",
+                "/usuarios/*", "/pedidos/*");
+        return registro;
     }
 
 }
@@ -0,0 +1,42 @@
+package com.lmg.lmgfood.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache em memória (Caffeine) dos cadastros de referência, que mudam raramente e são lidos em quase
+ * toda emissão de pedido e cadastro de restaurante.
+ * <p>
+ * Os caches guardam a própria entidade, e a mesma instância é devolvida a todas as requisições. Ela não
+ * deve ser alterada: as atualizações (PUT) buscam uma instância nova com buscarParaAlteracao, fora do cache,
+ * e a gravação só limpa o cache depois do commit. Se a gravação falhar, o valor em cache continua o
+ * que está no banco.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        var caffeineCacheManager = new CaffeineCacheManager("cidades", "estados", "cozinhas",
+                "formas-pagamento", "permissoes", "usuarios-autorizacao");
+        caffeineCacheManager.setAllowNullValues(false);
+
+        // recordStats mantém os acertos/falhas de cada cache, expostos como métricas cache.gets
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .recordStats());
+
+        // As remoções feitas dentro de uma transação só acontecem depois do commit,
+        // assim uma leitura concorrente não volta a guardar o valor antigo
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,13 @@
+package com.lmg.lmgfood.core.mapstruct;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuração comum dos mappers gerados pelo MapStruct na compilação.
+ * Os mappers viram beans do Spring e um campo do DTO sem origem quebra a compilação,
+ * em vez de sair nulo na resposta.
+ */
+@MapperConfig(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MapStructConfig {
+}
@@ -0,0 +1,54 @@
+package com.lmg.lmgfood.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Registra quantos comandos SQL cada endpoint executou, com as mesmas tags method e uri de http.server.requests
+ */
+public class ConsultasPorRequisicaoInterceptor implements AsyncHandlerInterceptor {
+
+    private final ContadorConsultasInspector contadorConsultas;
+
+    private final MeterRegistry meterRegistry;
+
+    public ConsultasPorRequisicaoInterceptor(ContadorConsultasInspector contadorConsultas, MeterRegistry meterRegistry) {
+        this.contadorConsultas = contadorConsultas;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        contadorConsultas.iniciar();
+        return true;
+    }
+
+    /**
+     * Em requisições assíncronas (StreamingResponseBody, Callable) o afterCompletion não é chamado na thread do
+     * preHandle, então o contador é descartado aqui para não ficar na thread do container. A requisição é
+     * registrada no despacho assíncrono, que passa de novo pelo preHandle e afterCompletion.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        contadorConsultas.finalizar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long consultas = contadorConsultas.finalizar();
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder("lmgfood.http.server.requests.queries")
+                .description("Comandos SQL executados por requisição")
+                .tag("method", request.getMethod())
+                .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(consultas);
+    }
+}
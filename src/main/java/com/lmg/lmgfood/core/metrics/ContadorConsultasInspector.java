@@ -0,0 +1,37 @@
+package com.lmg.lmgfood.core.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual, entre {@link #iniciar()} e {@link #finalizar()}.
+ * As estatísticas do Hibernate são globais, esse contador permite saber quantas consultas cada requisição fez.
+ */
+public class ContadorConsultasInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<long[]> contador = new ThreadLocal<>();
+
+    public void iniciar() {
+        contador.set(new long[1]);
+    }
+
+    /**
+     * @return quantidade de comandos desde o {@link #iniciar()}, ou zero se a contagem não foi iniciada
+     */
+    public long finalizar() {
+        long[] total = contador.get();
+        contador.remove();
+        return total == null ? 0 : total[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] total = contador.get();
+
+        if (total != null) {
+            total[0]++;
+        }
+        return sql;
+    }
+}
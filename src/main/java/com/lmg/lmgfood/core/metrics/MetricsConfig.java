@@ -0,0 +1,34 @@
+package com.lmg.lmgfood.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    @Lazy
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public ContadorConsultasInspector contadorConsultasInspector() {
+        return new ContadorConsultasInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorConsultasCustomizer(ContadorConsultasInspector contadorConsultasInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, contadorConsultasInspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsultasPorRequisicaoInterceptor(contadorConsultasInspector(), meterRegistry));
+    }
+}
@@ -0,0 +1,23 @@
+package com.lmg.lmgfood.core.report;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RelatorioExecutorConfig {
+
+    /**
+     * Executor limitado para geração de relatórios, evita que vários relatórios simultâneos
+     * consumam as threads do Tomcat. Quando a fila enche as novas solicitações são rejeitadas.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor relatorioTaskExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("relatorio-");
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.lmg.lmgfood.core.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Senha e permissões já achatadas de um usuário, guardadas no cache "usuarios-autorizacao".
+ * É imutável porque a mesma instância atende requisições concorrentes.
+ */
+@Getter
+@AllArgsConstructor
+class AutorizacaoUsuario {
+
+    private final String email;
+    private final String senha;
+    private final List<GrantedAuthority> authorities;
+
+}
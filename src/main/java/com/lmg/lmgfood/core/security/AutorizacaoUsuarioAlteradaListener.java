@@ -0,0 +1,32 @@
+package com.lmg.lmgfood.core.security;
+
+import com.lmg.lmgfood.domain.event.AutorizacaoUsuarioAlteradaEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Descarta as autorizações e as credenciais verificadas em cache depois do commit da alteração,
+ * assim a próxima requisição do usuário já usa a senha e as permissões novas
+ */
+@Component
+public class AutorizacaoUsuarioAlteradaListener {
+
+    @Autowired
+    private UsuarioDetailsService usuarioDetailsService;
+
+    @Autowired
+    private CredenciaisVerificadasAuthenticationProvider credenciaisVerificadasAuthenticationProvider;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarAutorizacao(AutorizacaoUsuarioAlteradaEvent event) {
+        // As remoções precisam ser imediatas, dentro do afterCommit uma remoção adiada para o commit seria perdida
+        if (event.afetaTodosUsuarios()) {
+            usuarioDetailsService.invalidarTodos();
+            credenciaisVerificadasAuthenticationProvider.invalidarTodos();
+        } else {
+            usuarioDetailsService.invalidar(event.getEmail());
+            credenciaisVerificadasAuthenticationProvider.invalidar(event.getEmail());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.lmg.lmgfood.core.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Evita repetir o BCrypt para credenciais Basic verificadas recentemente. O cache guarda apenas um SHA-256
+ * da senha com um sal aleatório gerado a cada inicialização, nunca a senha. Falhas de autenticação não
+ * entram no cache, então tentativas de adivinhar a senha continuam pagando o BCrypt.
+ */
+public class CredenciaisVerificadasAuthenticationProvider implements AuthenticationProvider {
+
+    private static final int TAMANHO_SAL = 16;
+
+    private final AuthenticationProvider delegate;
+
+    private final Cache<String, CredencialVerificada> credenciais;
+
+    private final byte[] sal = new byte[TAMANHO_SAL];
+
+    public CredenciaisVerificadasAuthenticationProvider(AuthenticationProvider delegate, Duration validade,
+                                                        long tamanhoMaximo) {
+        this.delegate = delegate;
+        this.credenciais = Caffeine.newBuilder()
+                .expireAfterWrite(validade)
+                .maximumSize(tamanhoMaximo)
+                .build();
+
+        new SecureRandom().nextBytes(sal);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        byte[] hash = calcularHash(String.valueOf(authentication.getCredentials()));
+
+        CredencialVerificada verificada = credenciais.getIfPresent(username);
+
+        if (verificada != null && MessageDigest.isEqual(verificada.hash, hash)) {
+            return new UsernamePasswordAuthenticationToken(verificada.principal, null, verificada.authorities);
+        }
+
+        Authentication autenticado = delegate.authenticate(authentication);
+
+        if (autenticado != null) {
+            credenciais.put(username, new CredencialVerificada(hash, autenticado.getPrincipal(),
+                    autenticado.getAuthorities()));
+        }
+        return autenticado;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Remove as credenciais do usuário do cache, deve ser chamado quando a senha ou as permissões mudam
+     */
+    public void invalidar(String username) {
+        credenciais.invalidate(username);
+    }
+
+    public void invalidarTodos() {
+        credenciais.invalidateAll();
+    }
+
+    private byte[] calcularHash(String senha) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sal);
+            return digest.digest(senha.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CredencialVerificada {
+        private final byte[] hash;
+        private final Object principal;
+        private final Collection<? extends GrantedAuthority> authorities;
+    }
+}
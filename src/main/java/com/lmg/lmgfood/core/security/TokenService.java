@@ -0,0 +1,78 @@
+package com.lmg.lmgfood.core.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+/**
+ * Emite e valida os tokens de acesso (JWT assinado com HMAC-SHA256). Validar um token custa uma assinatura HMAC,
+ * enquanto cada requisição com Basic custa uma verificação BCrypt.
+ */
+@Component
+public class TokenService {
+
+    public static final String CLAIM_AUTHORITIES = "authorities";
+
+    private static final int TAMANHO_MINIMO_SEGREDO = 32;
+
+    private final byte[] segredo;
+
+    @Getter
+    private final Duration validade;
+
+    public TokenService(@Value("${lmgfood.seguranca.token.segredo}") String segredo,
+                        @Value("${lmgfood.seguranca.token.validade}") Duration validade) {
+        this.segredo = segredo.getBytes(StandardCharsets.UTF_8);
+        this.validade = validade;
+
+        if (this.segredo.length < TAMANHO_MINIMO_SEGREDO) {
+            throw new IllegalStateException(String.format(
+                    "O segredo dos tokens deve ter pelo menos %d bytes", TAMANHO_MINIMO_SEGREDO));
+        }
+    }
+
+    public String emitir(Authentication autenticacao) {
+        var agora = Instant.now();
+
+        var claims = new JWTClaimsSet.Builder()
+                .subject(autenticacao.getName())
+                .issueTime(Date.from(agora))
+                .expirationTime(Date.from(agora.plus(validade)))
+                .claim(CLAIM_AUTHORITIES, autenticacao.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toList()))
+                .build();
+
+        try {
+            var token = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+            token.sign(new MACSigner(segredo));
+            return token.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Não foi possível assinar o token de acesso", e);
+        }
+    }
+
+    public JwtDecoder decoder() {
+        return NimbusJwtDecoder.withSecretKey(new SecretKeySpec(segredo, "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+    }
+}
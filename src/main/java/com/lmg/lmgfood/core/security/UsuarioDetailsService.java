@@ -0,0 +1,85 @@
+package com.lmg.lmgfood.core.security;
+
+import com.lmg.lmgfood.domain.model.dto.UsuarioPermissao;
+import com.lmg.lmgfood.domain.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Carrega os usuários do banco pelo e-mail. Grupos e permissões são lidos em uma única consulta e achatados
+ * em uma lista de authorities, mantida em cache até a autorização do usuário mudar
+ * (ver {@link AutorizacaoUsuarioAlteradaListener}).
+ */
+@Component
+public class UsuarioDetailsService implements UserDetailsService {
+
+    static final String CACHE_AUTORIZACAO = "usuarios-autorizacao";
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Override
+    public UserDetails loadUserByUsername(String email) {
+        AutorizacaoUsuario autorizacao;
+        try {
+            // O get com valueLoader do Caffeine é atômico, uma invalidação concorrente não é sobrescrita pela carga
+            autorizacao = cache().get(email, () -> carregar(email));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof UsernameNotFoundException) {
+                throw (UsernameNotFoundException) e.getCause();
+            }
+            throw e;
+        }
+
+        // Um User novo a cada autenticação, o ProviderManager apaga a senha do principal depois de autenticar
+        return User.withUsername(autorizacao.getEmail())
+                .password(autorizacao.getSenha())
+                .authorities(autorizacao.getAuthorities())
+                .build();
+    }
+
+    void invalidar(String email) {
+        cache().evictIfPresent(email);
+    }
+
+    void invalidarTodos() {
+        cache().invalidate();
+    }
+
+    private AutorizacaoUsuario carregar(String email) {
+        List<UsuarioPermissao> permissoes = usuarioRepository.findPermissoesByEmail(email);
+
+        if (permissoes.isEmpty()) {
+            throw new UsernameNotFoundException(String.format("Usuário com o e-mail %s não encontrado", email));
+        }
+
+        List<GrantedAuthority> authorities = permissoes.stream()
+                .map(UsuarioPermissao::getPermissao)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+
+        var usuario = permissoes.get(0);
+        return new AutorizacaoUsuario(usuario.getEmail(), usuario.getSenha(), authorities);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_AUTORIZACAO);
+    }
+}
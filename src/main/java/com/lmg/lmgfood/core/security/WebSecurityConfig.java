@@ -1,43 +1,63 @@
 package com.lmg.lmgfood.core.security;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UsuarioDetailsService usuarioDetailsService;
+
+    @Value("${lmgfood.seguranca.credenciais-cache.validade}")
+    private Duration validadeCredenciaisCache;
+
+    @Value("${lmgfood.seguranca.credenciais-cache.tamanho-maximo}")
+    private long tamanhoMaximoCredenciaisCache;
+
     /**
-     * Configura uma autenticação em memória
+     * Autenticação Basic com os usuários do banco (e-mail e senha), verificada pelo PasswordEncoder apenas quando a credencial
+     * não está no cache de credenciais verificadas
      * @param auth
      * @throws Exception
      */
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-
-        auth.inMemoryAuthentication()
-                .withUser("lucas")
-                    .password(passwordEncoder().encode("123"))
-                    .roles("ADMIN")
-                .and()
-                .withUser("joao")
-                    .password(passwordEncoder().encode("123"))
-                    .roles();
+        auth.authenticationProvider(credenciaisVerificadasAuthenticationProvider());
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http.httpBasic()
                 .and()
+                // Requisições com "Authorization: Bearer" são validadas pela assinatura do token, sem BCrypt
+                .oauth2ResourceServer()
+                    .jwt()
+                        .decoder(tokenService.decoder())
+                        .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                    .and()
+                .and()
                 .authorizeRequests()
                 .antMatchers("/cozinhas/**").permitAll()
+                .antMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated()
                 .and()
                 .sessionManagement()
@@ -46,13 +66,35 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .   csrf().disable();
     }
 
+    @Bean
+    public CredenciaisVerificadasAuthenticationProvider credenciaisVerificadasAuthenticationProvider() {
+        var daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(usuarioDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+
+        return new CredenciaisVerificadasAuthenticationProvider(daoAuthenticationProvider,
+                validadeCredenciaisCache, tamanhoMaximoCredenciaisCache);
+    }
+
+    // As permissões vêm da claim authorities do token, sem prefixo
+    private JwtAuthenticationConverter jwtAuthenticationConverter() {
+        var authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(TokenService.CLAIM_AUTHORITIES);
+        authoritiesConverter.setAuthorityPrefix("");
+
+        var jwtAuthenticationConverter = new JwtAuthenticationConverter();
+        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return jwtAuthenticationConverter;
+    }
+
     /**
-     * Método para criptografar as senhas
+     * Método para criptografar as senhas. As senhas são gravadas com o prefixo do algoritmo ({bcrypt}...),
+     * que indica como cada uma é verificada
      * @return
      */
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 
 }
@@ -0,0 +1,43 @@
+package com.lmg.lmgfood.core.web;
+
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET condicional a partir da versão do recurso (ETag profundo). A versão é consultada antes da busca,
+ * então um 304 não executa a consulta principal nem a serialização.
+ */
+public final class RespostaCondicional {
+
+    // As respostas exigem autenticação, então só o cache do próprio cliente pode guardá-las, nunca um proxy compartilhado
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * Compara a versão com If-None-Match/If-Modified-Since. Quando retorna true a resposta já está marcada
+     * como 304 e o controller deve retornar null
+     */
+    public static boolean naoModificado(ServletWebRequest request, VersaoRecurso versao) {
+        if (versao.getUltimaAtualizacao() == null) {
+            return request.checkNotModified(versao.getETag());
+        }
+        return request.checkNotModified(versao.getETag(), versao.getUltimaAtualizacao().toEpochMilli());
+    }
+
+    public static <T> ResponseEntity<T> ok(VersaoRecurso versao, T corpo) {
+        var resposta = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .eTag(versao.getETag());
+
+        if (versao.getUltimaAtualizacao() != null) {
+            resposta.lastModified(versao.getUltimaAtualizacao());
+        }
+        return resposta.body(corpo);
+    }
+}
@@ -0,0 +1,27 @@
+package com.lmg.lmgfood.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Gerado quando a senha, os grupos ou as permissões de um usuário mudam. Sem e-mail, afeta todos os usuários
+ * (ex: permissões de um grupo alteradas).
+ */
+@Getter
+@AllArgsConstructor
+public class AutorizacaoUsuarioAlteradaEvent {
+
+    private String email;
+
+    public static AutorizacaoUsuarioAlteradaEvent doUsuario(String email) {
+        return new AutorizacaoUsuarioAlteradaEvent(email);
+    }
+
+    public static AutorizacaoUsuarioAlteradaEvent deTodosUsuarios() {
+        return new AutorizacaoUsuarioAlteradaEvent(null);
+    }
+
+    public boolean afetaTodosUsuarios() {
+        return email == null;
+    }
+}
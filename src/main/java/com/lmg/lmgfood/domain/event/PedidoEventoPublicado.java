@@ -0,0 +1,17 @@
+package com.lmg.lmgfood.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento de pedido lido do outbox e entregue aos listeners locais.
+ * A entrega é pelo menos uma vez, o mesmo evento pode chegar de novo e o {@code eventoId} serve para ignorar repetições.
+ */
+@Getter
+@AllArgsConstructor
+public class PedidoEventoPublicado {
+
+    private Long eventoId;
+    private PedidoStatusAlteradoEvent evento;
+
+}
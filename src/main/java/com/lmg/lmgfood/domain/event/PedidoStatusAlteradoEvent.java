@@ -0,0 +1,23 @@
+package com.lmg.lmgfood.domain.event;
+
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Gerado a cada mudança de status do pedido e gravado no outbox na mesma transação. Os interessados devem escutar {@link PedidoEventoPublicado}, entregue após o commit.
+ */
+@Getter
+@AllArgsConstructor
+public class PedidoStatusAlteradoEvent {
+
+    private Long pedidoId;
+    private String codigoPedido;
+    private Long restauranteId;
+    private StatusPedido statusAnterior;
+    private StatusPedido statusNovo;
+    private OffsetDateTime dataOcorrencia;
+
+}
@@ -0,0 +1,15 @@
+package com.lmg.lmgfood.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.CONFLICT)
+public class PedidoAlteradoConcorrentementeException extends NegocioException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PedidoAlteradoConcorrentementeException(String codigoPedido) {
+		super(String.format("O pedido %s foi alterado por outra requisição, consulte o pedido e tente novamente",
+				codigoPedido));
+	}
+}
@@ -1,6 +1,9 @@
 
 package com.lmg.lmgfood.domain.exception;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 public class ProdutoNaoEncontradaException extends EntidadeNaoEncontradaException {
 
 	private static final long serialVersionUID = 1L;
@@ -12,4 +15,9 @@ public class ProdutoNaoEncontradaException extends EntidadeNaoEncontradaExceptio
 	public ProdutoNaoEncontradaException(Long restauranteId, Long produtoId) {
 		this(String.format("Não existe um cadastro de produto com o código %d para o restaurante de código %d ", produtoId, restauranteId));
 	}
+
+	public ProdutoNaoEncontradaException(Long restauranteId, Collection<Long> produtoIds) {
+		this(String.format("Não existe um cadastro de produto com os códigos %s para o restaurante de código %d ",
+				produtoIds.stream().map(String::valueOf).collect(Collectors.joining(", ")), restauranteId));
+	}
 }
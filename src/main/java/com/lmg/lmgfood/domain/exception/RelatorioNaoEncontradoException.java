@@ -0,0 +1,10 @@
+package com.lmg.lmgfood.domain.exception;
+
+public class RelatorioNaoEncontradoException extends EntidadeNaoEncontradaException {
+
+	private static final long serialVersionUID = 1L;
+
+	public RelatorioNaoEncontradoException(String relatorioId) {
+		super(String.format("Não existe uma solicitação de relatório com o código %s ", relatorioId));
+	}
+}
@@ -0,0 +1,13 @@
+package com.lmg.lmgfood.domain.exception;
+
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+
+public class StatusPedidoInvalidoException extends NegocioException {
+
+	private static final long serialVersionUID = 1L;
+
+	public StatusPedidoInvalidoException(String codigoPedido, StatusPedido statusAtual, StatusPedido novoStatus) {
+		super(String.format("Status do pedido %s não pode ser alterado de %s para %s",
+				codigoPedido, statusAtual.getDescricao(), novoStatus.getDescricao()));
+	}
+}
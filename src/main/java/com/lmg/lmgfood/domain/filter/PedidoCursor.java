@@ -0,0 +1,49 @@
+package com.lmg.lmgfood.domain.filter;
+
+import com.lmg.lmgfood.domain.exception.NegocioException;
+import com.lmg.lmgfood.domain.model.Pedido;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Posição da paginação por cursor (keyset) dos pedidos, ordenados por (dataCriacao, id) decrescente.
+ * O cliente recebe apenas o token opaco gerado por {@link #codificar()}.
+ */
+@Getter
+@AllArgsConstructor
+public class PedidoCursor {
+
+    private static final String SEPARADOR = "|";
+
+    private OffsetDateTime dataCriacao;
+    private Long id;
+
+    public static PedidoCursor de(Pedido pedido) {
+        return new PedidoCursor(pedido.getDataCriacao(), pedido.getId());
+    }
+
+    public String codificar() {
+        String valor = dataCriacao.toInstant().toString() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PedidoCursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+
+            var dataCriacao = Instant.parse(valor.substring(0, separador)).atOffset(ZoneOffset.UTC);
+            var id = Long.valueOf(valor.substring(separador + 1));
+
+            return new PedidoCursor(dataCriacao, id);
+        } catch (RuntimeException e) {
+            throw new NegocioException(String.format("O cursor '%s' é inválido", token), e);
+        }
+    }
+}
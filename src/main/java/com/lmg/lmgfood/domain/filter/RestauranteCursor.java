@@ -0,0 +1,37 @@
+package com.lmg.lmgfood.domain.filter;
+
+import com.lmg.lmgfood.domain.exception.NegocioException;
+import com.lmg.lmgfood.domain.model.dto.RestauranteResumo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição da paginação por cursor (keyset) dos restaurantes, ordenados pelo código crescente.
+ * O cliente recebe apenas o token opaco gerado por {@link #codificar()}.
+ */
+@Getter
+@AllArgsConstructor
+public class RestauranteCursor {
+
+    private Long id;
+
+    public static RestauranteCursor de(RestauranteResumo restaurante) {
+        return new RestauranteCursor(restaurante.getId());
+    }
+
+    public String codificar() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RestauranteCursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new RestauranteCursor(Long.valueOf(valor));
+        } catch (RuntimeException e) {
+            throw new NegocioException(String.format("O cursor '%s' é inválido", token), e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.lmg.lmgfood.domain.model;
 
+import java.math.BigDecimal;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.FetchType;
@@ -26,6 +28,12 @@ public class Endereco {
 	
 	@Column(name = "endereco_bairro")
 	private String bairro;
+
+	@Column(name = "endereco_latitude")
+	private BigDecimal latitude;
+
+	@Column(name = "endereco_longitude")
+	private BigDecimal longitude;
 	
 	@JoinColumn(name = "endereco_cidade_id")
 	@ManyToOne (fetch = FetchType.LAZY)
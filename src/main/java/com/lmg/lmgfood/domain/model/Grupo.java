@@ -15,6 +15,8 @@ import javax.persistence.ManyToMany;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
@@ -29,6 +31,7 @@ public class Grupo {
 	private String nome;
 	
 	@Column(nullable = false)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "grupo-permissoes")
 	@ManyToMany
 	@JoinTable(name = "grupo_permissao", 
 	joinColumns = @JoinColumn(name = "grupo_id"),
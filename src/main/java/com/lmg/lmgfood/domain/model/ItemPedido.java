@@ -10,6 +10,9 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -18,8 +21,15 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class ItemPedido {
 
+	// Com IDENTITY o Hibernate não agrupa os inserts, então os ids vêm de uma sequência em blocos de 50
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_pedido_seq")
+	@GenericGenerator(name = "item_pedido_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+			parameters = {
+					@Parameter(name = "sequence_name", value = "item_pedido_seq"),
+					@Parameter(name = "increment_size", value = "50"),
+					@Parameter(name = "optimizer", value = "pooled-lo")
+			})
 	@EqualsAndHashCode.Include
 	private Long id;
 	
@@ -20,14 +20,16 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.PrePersist;
+import javax.persistence.Version;
 import javax.validation.constraints.NotNull;
 
-import com.lmg.lmgfood.domain.exception.NegocioException;
 import com.lmg.lmgfood.domain.model.enums.StatusPedido;
 import org.hibernate.annotations.CreationTimestamp;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 @Entity
 @Data
@@ -71,12 +73,18 @@ public class Pedido {
 	@Embedded
 	private Endereco enderecoEntrega;
 
+	// O status só muda pelo FluxoPedidoService, com o update condicional que valida a transição
 	@Enumerated(EnumType.STRING)
+	@Setter(AccessLevel.NONE)
 	private StatusPedido status = StatusPedido.CRIADO;
 	
 	@OneToMany(mappedBy = "pedido", cascade = CascadeType.ALL)
 	private List<ItemPedido> itens = new ArrayList<>();
 
+	// Duas requisições que carregaram o mesmo pedido não conseguem gravar por cima uma da outra
+	@Version
+	private Long versao;
+
 	public void calcularValorTotal(){
 		getItens().forEach(ItemPedido::calcularPrecoTotal);
 
@@ -87,30 +95,6 @@ public class Pedido {
 		this.valorTotal = this.subtotal.add(this.taxaFrete);
 	}
 
-	public void confirmar(){
-		setStatus(StatusPedido.CONFIRMADO);
-		setDataConfirmacao(LocalDateTime.now());
-	}
-
-	public void cancelar(){
-		setStatus(StatusPedido.CANCELADO);
-		setDataCancelamento(LocalDateTime.now());
-	}
-
-	public void entregar(){
-		setStatus(StatusPedido.ENTREGUE);
-		setDataEntrega(LocalDateTime.now());
-	}
-
-	private void setStatus(StatusPedido novoStatus){
-		if (getStatus().naoPodeAlterarPara(novoStatus)){
-			throw new NegocioException((String.format("Status do pedido %s não pode ser alterado de %s para %s",
-					getCodigo(), getStatus().getDescricao(), novoStatus.getDescricao())));
-		}
-
-		this.status = novoStatus;
-	}
-
 	@PrePersist //Anotation do jpa, Antes de inserir um novo registro no banco de dados, executa esse método, método de callback
 	private void gerarCodigoUUID(){
 		setCodigo(UUID.randomUUID().toString());
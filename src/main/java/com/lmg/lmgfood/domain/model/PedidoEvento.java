@@ -0,0 +1,70 @@
+package com.lmg.lmgfood.domain.model;
+
+import java.time.OffsetDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+import com.lmg.lmgfood.domain.event.PedidoStatusAlteradoEvent;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Linha do outbox de eventos de pedido, removida depois de entregue aos listeners
+ */
+@Entity
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PedidoEvento {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@EqualsAndHashCode.Include
+	private Long id;
+
+	private Long pedidoId;
+
+	private String pedidoCodigo;
+
+	private Long restauranteId;
+
+	@Enumerated(EnumType.STRING)
+	private StatusPedido statusAnterior;
+
+	@Enumerated(EnumType.STRING)
+	private StatusPedido statusNovo;
+
+	@Column(columnDefinition = "datetime")
+	private OffsetDateTime dataOcorrencia;
+
+	private int tentativas;
+
+	// Reserva do relay que está entregando o evento, outra instância só o pega depois que a reserva vence
+	private String reservadoPor;
+
+	@Column(columnDefinition = "datetime")
+	private OffsetDateTime reservadoAte;
+
+	public static PedidoEvento de(PedidoStatusAlteradoEvent evento) {
+		var pedidoEvento = new PedidoEvento();
+		pedidoEvento.setPedidoId(evento.getPedidoId());
+		pedidoEvento.setPedidoCodigo(evento.getCodigoPedido());
+		pedidoEvento.setRestauranteId(evento.getRestauranteId());
+		pedidoEvento.setStatusAnterior(evento.getStatusAnterior());
+		pedidoEvento.setStatusNovo(evento.getStatusNovo());
+		pedidoEvento.setDataOcorrencia(evento.getDataOcorrencia());
+		return pedidoEvento;
+	}
+
+	public PedidoStatusAlteradoEvent toEvent() {
+		return new PedidoStatusAlteradoEvent(pedidoId, pedidoCodigo, restauranteId, statusAnterior, statusNovo,
+				dataOcorrencia);
+	}
+}
@@ -6,6 +6,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -63,9 +65,10 @@ public class Restaurante {
 	private LocalDateTime dataCadastro;
 	
 	@UpdateTimestamp
-	@Column(nullable = false, columnDefinition = "datetime")
+	@Column(nullable = false, columnDefinition = "datetime(6)")
 	private LocalDateTime dataAtualizacao;
 	
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurante-formas-pagamento")
 	@ManyToMany
 	@JoinTable(
 			name = "restaurante_forma_pagamento",
@@ -3,6 +3,7 @@ package com.lmg.lmgfood.domain.model;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -52,12 +53,13 @@ public class Usuario {
 		return getGrupos().add(grupo);
 	}
 
-	public boolean senhaCoincideCom(String senha){
-		return getSenha().equals(senha);
+	// A senha é gravada com hash, então a comparação é feita pelo PasswordEncoder
+	public boolean senhaCoincideCom(String senha, PasswordEncoder passwordEncoder){
+		return passwordEncoder.matches(senha, getSenha());
 	}
 
-	public boolean senhaNaoCoincideCom(String senha){
-		return !senhaCoincideCom(senha);
+	public boolean senhaNaoCoincideCom(String senha, PasswordEncoder passwordEncoder){
+		return !senhaCoincideCom(senha, passwordEncoder);
 	}
 
 }
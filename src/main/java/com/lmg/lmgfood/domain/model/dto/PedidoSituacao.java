@@ -0,0 +1,25 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Colunas do pedido necessárias para mudar o status sem carregar o agregado inteiro
+ */
+@Getter
+@AllArgsConstructor
+public class PedidoSituacao {
+
+    private Long id;
+    private String codigo;
+    private StatusPedido status;
+    private Long versao;
+    private Long restauranteId;
+    private BigDecimal valorTotal;
+    private OffsetDateTime dataCriacao;
+
+}
@@ -0,0 +1,27 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import com.lmg.lmgfood.domain.model.enums.StatusRelatorio;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Solicitação de geração assíncrona de um relatório de vendas
+ */
+@Getter
+@AllArgsConstructor
+public class RelatorioVendaJob {
+
+    private String id;
+    private OffsetDateTime dataSolicitacao;
+    private CompletableFuture<byte[]> relatorio;
+
+    public StatusRelatorio getStatus() {
+        if (!relatorio.isDone()) {
+            return StatusRelatorio.PROCESSANDO;
+        }
+        return relatorio.isCompletedExceptionally() ? StatusRelatorio.FALHOU : StatusRelatorio.CONCLUIDO;
+    }
+}
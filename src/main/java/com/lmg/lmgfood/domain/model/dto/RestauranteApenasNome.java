@@ -0,0 +1,16 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção da listagem de restaurantes com apenas as colunas da visão apenas-nome
+ */
+@Getter
+@AllArgsConstructor
+public class RestauranteApenasNome {
+
+    private Long id;
+    private String nome;
+
+}
@@ -0,0 +1,33 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção da listagem completa de restaurantes, com cozinha, endereço, cidade e estado achatados em uma linha
+ */
+@Getter
+@AllArgsConstructor
+public class RestauranteCompleto {
+
+    private Long id;
+    private String nome;
+    private BigDecimal taxaFrete;
+    private Boolean ativo;
+    private Boolean aberto;
+    private Long cozinhaId;
+    private String cozinhaNome;
+    private String enderecoCep;
+    private String enderecoLogradouro;
+    private String enderecoNumero;
+    private String enderecoComplemento;
+    private String enderecoBairro;
+    private BigDecimal enderecoLatitude;
+    private BigDecimal enderecoLongitude;
+    private Long cidadeId;
+    private String cidadeNome;
+    private String estadoNome;
+
+}
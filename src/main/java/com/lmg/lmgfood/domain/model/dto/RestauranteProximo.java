@@ -0,0 +1,22 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Restaurante encontrado na busca por localização, com a distância em quilômetros até o ponto buscado
+ */
+@Getter
+@AllArgsConstructor
+public class RestauranteProximo {
+
+    private Long id;
+    private String nome;
+    private BigDecimal taxaFrete;
+    private Long cozinhaId;
+    private String cozinhaNome;
+    private Double distancia;
+
+}
@@ -0,0 +1,21 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção da listagem de restaurantes com as colunas da visão resumo, a cozinha vem do join na mesma consulta
+ */
+@Getter
+@AllArgsConstructor
+public class RestauranteResumo {
+
+    private Long id;
+    private String nome;
+    private BigDecimal taxaFrete;
+    private Long cozinhaId;
+    private String cozinhaNome;
+
+}
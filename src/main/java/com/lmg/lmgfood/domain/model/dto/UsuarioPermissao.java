@@ -0,0 +1,19 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Linha da consulta que achata usuário, grupos e permissões, uma por permissão do usuário.
+ * O nome da permissão é nulo quando o usuário não tem nenhuma.
+ */
+@Getter
+@AllArgsConstructor
+public class UsuarioPermissao {
+
+    private Long id;
+    private String email;
+    private String senha;
+    private String permissao;
+
+}
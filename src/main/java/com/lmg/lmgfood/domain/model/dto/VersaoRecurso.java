@@ -0,0 +1,42 @@
+package com.lmg.lmgfood.domain.model.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Versão de um recurso ou coleção, calculada com max(dataAtualizacao) e count em uma única consulta.
+ * A quantidade entra no ETag porque uma exclusão não altera a maior data de atualização.
+ */
+@Getter
+public class VersaoRecurso {
+
+    // Nula quando não existe nenhum registro
+    private final Instant ultimaAtualizacao;
+    private final long quantidade;
+
+    public VersaoRecurso(LocalDateTime ultimaAtualizacao, Long quantidade) {
+        // O Hibernate grava LocalDateTime no fuso da JVM
+        this(ultimaAtualizacao == null ? null : ultimaAtualizacao.atZone(ZoneId.systemDefault()).toInstant(), quantidade);
+    }
+
+    public VersaoRecurso(OffsetDateTime ultimaAtualizacao, Long quantidade) {
+        this(ultimaAtualizacao == null ? null : ultimaAtualizacao.toInstant(), quantidade);
+    }
+
+    private VersaoRecurso(Instant ultimaAtualizacao, Long quantidade) {
+        this.ultimaAtualizacao = ultimaAtualizacao;
+        this.quantidade = quantidade == null ? 0 : quantidade;
+    }
+
+    public String getETag() {
+        if (ultimaAtualizacao == null) {
+            return "0";
+        }
+        return ChronoUnit.MICROS.between(Instant.EPOCH, ultimaAtualizacao) + "-" + quantidade;
+    }
+}
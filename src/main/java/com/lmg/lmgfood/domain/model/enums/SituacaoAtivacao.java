@@ -0,0 +1,18 @@
+package com.lmg.lmgfood.domain.model.enums;
+
+public enum SituacaoAtivacao {
+
+	ALTERADO("Alterado"),
+	SEM_ALTERACAO("Já estava na situação solicitada"),
+	NAO_ENCONTRADO("Não encontrado");
+
+	private String descricao;
+
+	SituacaoAtivacao(String descricao){
+		this.descricao = descricao;
+	}
+
+	public String getDescricao() {
+		return this.descricao;
+	}
+}
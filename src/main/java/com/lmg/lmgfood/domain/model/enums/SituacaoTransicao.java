@@ -0,0 +1,18 @@
+package com.lmg.lmgfood.domain.model.enums;
+
+public enum SituacaoTransicao {
+
+	ALTERADO("Alterado"),
+	STATUS_INVALIDO("O status atual não permite a alteração"),
+	NAO_ENCONTRADO("Não encontrado");
+
+	private String descricao;
+
+	SituacaoTransicao(String descricao){
+		this.descricao = descricao;
+	}
+
+	public String getDescricao() {
+		return this.descricao;
+	}
+}
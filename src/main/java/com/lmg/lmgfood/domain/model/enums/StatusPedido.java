@@ -30,4 +30,20 @@ public enum StatusPedido {
 	public boolean naoPodeAlterarPara(StatusPedido novoStatus){
 		return !novoStatus.statusAnteriores.contains(this);
 	}
+
+	/**
+	 * Indica se o status é final, ou seja, nenhum outro status pode vir depois dele
+	 * @return Retorna true para pedidos entregues ou cancelados
+	 */
+	public boolean isFinal(){
+		return Arrays.stream(values()).noneMatch(status -> status.statusAnteriores.contains(this));
+	}
+
+	/**
+	 * Indica se o pedido neste status entra nas estatísticas de vendas
+	 * @return Retorna true para pedidos confirmados ou entregues
+	 */
+	public boolean contabilizaVenda(){
+		return this == CONFIRMADO || this == ENTREGUE;
+	}
 }
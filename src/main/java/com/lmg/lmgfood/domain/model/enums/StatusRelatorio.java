@@ -0,0 +1,18 @@
+package com.lmg.lmgfood.domain.model.enums;
+
+public enum StatusRelatorio {
+
+	PROCESSANDO("Processando"),
+	CONCLUIDO("Concluído"),
+	FALHOU("Falhou");
+
+	private String descricao;
+
+	StatusRelatorio(String descricao){
+		this.descricao = descricao;
+	}
+
+	public String getDescricao() {
+		return this.descricao;
+	}
+}
@@ -2,14 +2,20 @@ package com.lmg.lmgfood.domain.repository;
 
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.lmg.lmgfood.domain.model.Cozinha;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface CozinhaRepository extends JpaRepository<Cozinha, Long>{
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Cozinha> findByNomeContaining(String nome);
 	
 }
@@ -2,15 +2,26 @@ package com.lmg.lmgfood.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.lmg.lmgfood.domain.model.FormaPagamento;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
 
-import java.time.OffsetDateTime;
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 @Repository
 public interface FormaPagamentoRepository extends JpaRepository<FormaPagamento, Long> {
 
-    @Query("select max(dataAtualizacao) from FormaPagamento")
-    OffsetDateTime findUltimaAtualizacao();
+    // Consultada em todo GET de formas de pagamento para montar o ETag, fica no cache até a tabela mudar
+    @Query("select new com.lmg.lmgfood.domain.model.dto.VersaoRecurso(max(f.dataAtualizacao), count(f)) from FormaPagamento f")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    VersaoRecurso findVersao();
+
+    @Query("select new com.lmg.lmgfood.domain.model.dto.VersaoRecurso(max(f.dataAtualizacao), count(f)) " +
+            "from FormaPagamento f where f.id = :id")
+    VersaoRecurso findVersaoById(@Param("id") Long id);
 }
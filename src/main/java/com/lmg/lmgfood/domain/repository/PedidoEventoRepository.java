@@ -0,0 +1,49 @@
+package com.lmg.lmgfood.domain.repository;
+
+import com.lmg.lmgfood.domain.model.PedidoEvento;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PedidoEventoRepository extends JpaRepository<PedidoEvento, Long> {
+
+    // Só o evento mais antigo de cada pedido fica disponível, assim os eventos de um mesmo pedido são entregues
+    // na ordem em que aconteceram, mesmo com mais de uma instância, e um evento que esgotou as tentativas
+    // segura os seguintes do seu pedido
+    @Query("select e.id from PedidoEvento e where e.tentativas < :maximoTentativas "
+            + "and (e.reservadoAte is null or e.reservadoAte < :agora) "
+            + "and not exists (select a.id from PedidoEvento a where a.pedidoId = e.pedidoId and a.id < e.id) "
+            + "order by e.id")
+    List<Long> findIdsDisponiveis(@Param("maximoTentativas") int maximoTentativas, @Param("agora") OffsetDateTime agora,
+                                  Pageable pageable);
+
+    // O update relê a linha atual, então um evento reservado por outra instância entre a busca e a reserva fica de fora
+    @Transactional
+    @Modifying
+    @Query("update PedidoEvento e set e.reservadoPor = :reserva, e.reservadoAte = :reservadoAte "
+            + "where e.id in :ids and (e.reservadoAte is null or e.reservadoAte < :agora)")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("reserva") String reserva,
+                 @Param("reservadoAte") OffsetDateTime reservadoAte, @Param("agora") OffsetDateTime agora);
+
+    @Query("from PedidoEvento e where e.reservadoPor = :reserva order by e.id")
+    List<PedidoEvento> findByReserva(@Param("reserva") String reserva);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PedidoEvento e where e.id in :ids")
+    void removerEntregues(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update PedidoEvento e set e.tentativas = e.tentativas + 1 where e.id = :id")
+    void registrarFalha(@Param("id") Long id);
+}
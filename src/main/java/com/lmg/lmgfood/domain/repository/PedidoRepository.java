@@ -1,18 +1,44 @@
 package com.lmg.lmgfood.domain.repository;
 
 import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 @Repository
-public interface PedidoRepository extends CustomJpaRepository<Pedido, Long>, JpaSpecificationExecutor<Pedido> {
+public interface PedidoRepository extends CustomJpaRepository<Pedido, Long>, PedidoRepositoryQueries,
+        JpaSpecificationExecutor<Pedido> {
 
     Optional<Pedido> findByCodigo(String pedido);
 
+    /**
+     * Pedido com tudo que o detalhe exibe em uma única consulta: restaurante e cozinha, cliente, forma de pagamento,
+     * cidade e estado da entrega e os itens com os produtos. Apenas os itens são coleção, então não há produto cartesiano
+     * entre coleções, o distinct remove no Hibernate as linhas repetidas do pedido sem ir para o SQL.
+     */
+    @Query("select distinct p from Pedido p "
+            + "join fetch p.restaurante r join fetch r.cozinha "
+            + "join fetch p.cliente "
+            + "join fetch p.formaPagamento "
+            + "left join fetch p.enderecoEntrega.cidade c left join fetch c.estado "
+            + "left join fetch p.itens i left join fetch i.produto "
+            + "where p.codigo = :codigo")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    Optional<Pedido> findDetalheByCodigo(@Param("codigo") String codigo);
+
+    @Query("select new com.lmg.lmgfood.domain.model.dto.PedidoSituacao(p.id, p.codigo, p.status, p.versao, "
+            + "p.restaurante.id, p.valorTotal, p.dataCriacao) from Pedido p where p.codigo = :codigo")
+    Optional<PedidoSituacao> findSituacaoByCodigo(String codigo);
+
     @Query("from Pedido p join fetch p.cliente join fetch p.restaurante r join fetch r.cozinha")
     List<Pedido> findAll();
 
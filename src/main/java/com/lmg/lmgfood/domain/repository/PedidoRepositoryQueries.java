@@ -0,0 +1,55 @@
+package com.lmg.lmgfood.domain.repository;
+
+import com.lmg.lmgfood.domain.filter.PedidoCursor;
+import com.lmg.lmgfood.domain.filter.PedidoFilter;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface PedidoRepositoryQueries {
+
+    /**
+     * Busca uma página de pedidos ordenada por (dataCriacao, id) decrescente, iniciando após o cursor
+     * @param filtro filtros da pesquisa
+     * @param cursor posição do último pedido da página anterior, ou null para a primeira página
+     * @param limite quantidade máxima de pedidos retornados
+     */
+    List<Pedido> buscarComCursor(PedidoFilter filtro, PedidoCursor cursor, int limite);
+
+    /**
+     * Percorre todos os pedidos do filtro usando um cursor do banco, sem carregar o resultado inteiro em memória.
+     * Deve ser chamado dentro de uma transação.
+     * @param filtro filtros da pesquisa
+     * @param tamanhoLote quantidade de pedidos processados antes de limpar o contexto de persistência
+     * @param consumidor chamado para cada pedido encontrado
+     */
+    void percorrer(PedidoFilter filtro, int tamanhoLote, Consumer<Pedido> consumidor);
+
+    /**
+     * Altera o status com um único update condicional, que só encontra a linha se o pedido continua no status
+     * e na versão lidos. Também incrementa a versão, então o @Version do agregado continua valendo.
+     * @param pedido situação do pedido lida antes da alteração
+     * @param dataAlteracao gravada na data correspondente ao novo status
+     * @return false quando o pedido foi alterado por outra transação desde a leitura
+     */
+    boolean alterarStatus(PedidoSituacao pedido, StatusPedido novoStatus, LocalDateTime dataAlteracao);
+
+    /**
+     * Lê a situação dos pedidos e bloqueia as linhas até o fim da transação, para as alterações em lote
+     * não concorrerem com outras alterações dos mesmos pedidos
+     */
+    List<PedidoSituacao> buscarSituacoesParaAlteracao(Collection<String> codigos);
+
+    /**
+     * Altera o status de vários pedidos com um único update, os pedidos devem estar bloqueados
+     * por {@link #buscarSituacoesParaAlteracao(Collection)}
+     * @return quantidade de pedidos alterados
+     */
+    int alterarStatus(Collection<Long> pedidoIds, StatusPedido statusAtual, StatusPedido novoStatus,
+                      LocalDateTime dataAlteracao);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,10 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
     Optional<Produto> findById(@Param("restaurante") Long restauranteId,
                                @Param("produto") Long produtoId);
 
+    @Query("from Produto where restaurante.id = :restaurante and id in :produtos")
+    List<Produto> findByRestauranteAndIdIn(@Param("restaurante") Long restauranteId,
+                                           @Param("produtos") Collection<Long> produtoIds);
+
     List<Produto> findTodosByRestaurante(Restaurante restaurante);
 
     @Query("from Produto p where p.ativo = true and p.restaurante = :restaurante")
@@ -1,14 +1,24 @@
 package com.lmg.lmgfood.domain.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.RestauranteApenasNome;
+import com.lmg.lmgfood.domain.model.dto.RestauranteCompleto;
+import com.lmg.lmgfood.domain.model.dto.RestauranteResumo;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
 
 @Repository
 public interface RestauranteRepository extends CustomJpaRepository<Restaurante, Long>, RestauranteRepositoryQueries, 
@@ -17,7 +27,80 @@ public interface RestauranteRepository extends CustomJpaRepository<Restaurante,
 
 	@Query("from Restaurante r join fetch r.cozinha")
 	List<Restaurante> findAll();
+
+	// Projeções da listagem, cada uma seleciona só as colunas da sua visão e não carrega entidades
+
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteApenasNome(r.id, r.nome) from Restaurante r")
+	List<RestauranteApenasNome> findAllApenasNome();
+
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteResumo(r.id, r.nome, r.taxaFrete, c.id, c.nome) "
+			+ "from Restaurante r join r.cozinha c")
+	List<RestauranteResumo> findAllResumo();
+
+	@Query(value = "select new com.lmg.lmgfood.domain.model.dto.RestauranteResumo(r.id, r.nome, r.taxaFrete, c.id, c.nome) "
+			+ "from Restaurante r join r.cozinha c",
+			countQuery = "select count(r) from Restaurante r")
+	Page<RestauranteResumo> findPaginaResumo(Pageable pageable);
+
+	// Retornando Slice o Spring Data busca um registro a mais para saber se existe próxima página e não executa o count
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteResumo(r.id, r.nome, r.taxaFrete, c.id, c.nome) "
+			+ "from Restaurante r join r.cozinha c")
+	Slice<RestauranteResumo> findFatiaResumo(Pageable pageable);
+
+	// Paginação por keyset na chave primária, o custo não depende da profundidade da página
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteResumo(r.id, r.nome, r.taxaFrete, c.id, c.nome) "
+			+ "from Restaurante r join r.cozinha c where r.id > :ultimoId order by r.id")
+	List<RestauranteResumo> findResumoAposId(@Param("ultimoId") Long ultimoId, Pageable pageable);
+
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteResumo(r.id, r.nome, r.taxaFrete, c.id, c.nome) "
+			+ "from Restaurante r join r.cozinha c where r.id in :ids")
+	List<RestauranteResumo> findResumoByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("select new com.lmg.lmgfood.domain.model.dto.RestauranteCompleto(r.id, r.nome, r.taxaFrete, r.ativo, r.aberto, "
+			+ "c.id, c.nome, r.endereco.cep, r.endereco.logradouro, r.endereco.numero, r.endereco.complemente, "
+			+ "r.endereco.bairro, r.endereco.latitude, r.endereco.longitude, cid.id, cid.nome, e.nome) "
+			+ "from Restaurante r join r.cozinha c left join r.endereco.cidade cid left join cid.estado e")
+	List<RestauranteCompleto> findAllCompleto();
 	
+	// Situação atual dos restaurantes informados, os códigos que não voltarem não existem
+	@Query("select r.id, r.ativo from Restaurante r where r.id in :ids")
+	List<Object[]> findAtivoByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Atualização em massa sem carregar as entidades, por isso a data de atualização é informada explicitamente
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Restaurante r set r.ativo = :ativo, r.dataAtualizacao = :dataAtualizacao where r.id in :ids")
+	int atualizarAtivo(@Param("ids") Collection<Long> ids, @Param("ativo") boolean ativo,
+			@Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+	// Versões usadas nos ETags, a data de atualização também muda com os produtos do restaurante
+	// e com a alteração da cozinha, cidade ou estado exibidos nele
+	@Query("select new com.lmg.lmgfood.domain.model.dto.VersaoRecurso(max(r.dataAtualizacao), count(r)) from Restaurante r")
+	VersaoRecurso findVersao();
+
+	@Query("select new com.lmg.lmgfood.domain.model.dto.VersaoRecurso(max(r.dataAtualizacao), count(r)) "
+			+ "from Restaurante r where r.id = :id")
+	VersaoRecurso findVersaoById(@Param("id") Long id);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Restaurante r set r.dataAtualizacao = :dataAtualizacao where r.id = :id")
+	int atualizarDataAtualizacao(@Param("id") Long id, @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Restaurante r set r.dataAtualizacao = :dataAtualizacao where r.cozinha.id = :cozinhaId")
+	int atualizarDataAtualizacaoPorCozinha(@Param("cozinhaId") Long cozinhaId,
+			@Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Restaurante r set r.dataAtualizacao = :dataAtualizacao where r.endereco.cidade.id = :cidadeId")
+	int atualizarDataAtualizacaoPorCidade(@Param("cidadeId") Long cidadeId,
+			@Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update Restaurante r set r.dataAtualizacao = :dataAtualizacao "
+			+ "where r.endereco.cidade.id in (select c.id from Cidade c where c.estado.id = :estadoId)")
+	int atualizarDataAtualizacaoPorEstado(@Param("estadoId") Long estadoId,
+			@Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
 	List<Restaurante> findByTaxaFreteBetween(BigDecimal taxaInicial, BigDecimal taxaFinal);
 	
 	@Query("from Restaurante where nome like %:nome% and cozinha.id = :id")
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.RestauranteProximo;
 
 public interface RestauranteRepositoryQueries {
 
@@ -11,4 +12,10 @@ public interface RestauranteRepositoryQueries {
 	
 	List<Restaurante> buscarComFreteGratis(String nome);
 
+	/**
+	 * Busca os restaurantes ativos e abertos dentro do raio, do mais próximo para o mais distante
+	 * @param raio distância máxima em quilômetros
+	 */
+	List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raio, int limite);
+
 }
\ No newline at end of file
@@ -1,13 +1,22 @@
 package com.lmg.lmgfood.domain.repository;
 
 import com.lmg.lmgfood.domain.model.Usuario;
+import com.lmg.lmgfood.domain.model.dto.UsuarioPermissao;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UsuarioRepository extends CustomJpaRepository<Usuario, Long> {
 
     Optional<Usuario> findByEmail(String email);
-	
+
+    // Uma única consulta para usuário, grupos e permissões, sem carregar as coleções @ManyToMany
+    @Query("select distinct new com.lmg.lmgfood.domain.model.dto.UsuarioPermissao(u.id, u.email, u.senha, p.nome) " +
+            "from Usuario u left join u.grupos g left join g.permissoes p where u.email = :email")
+    List<UsuarioPermissao> findPermissoesByEmail(@Param("email") String email);
+
 }
@@ -0,0 +1,23 @@
+package com.lmg.lmgfood.domain.service;
+
+import java.util.List;
+
+public interface BuscaRestauranteService {
+
+    /**
+     * Busca restaurantes pelo nome, pelo nome da cozinha e pelo nome e descrição dos produtos ativos.
+     * Aceita termos incompletos e pequenos erros de digitação.
+     * @return códigos dos restaurantes encontrados, do mais relevante para o menos relevante
+     */
+    List<Long> buscar(String termo, int limite);
+
+    /**
+     * Atualiza o restaurante no índice de busca, quando existe transação a atualização acontece após o commit
+     */
+    void indexar(Long restauranteId);
+
+    /**
+     * Recria o índice de busca com todos os restaurantes
+     */
+    void indexarTodos();
+}
@@ -1,8 +1,11 @@
 package com.lmg.lmgfood.domain.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
@@ -13,6 +16,7 @@ import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.model.Cidade;
 import com.lmg.lmgfood.domain.model.Estado;
 import com.lmg.lmgfood.domain.repository.CidadeRepository;
+import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 
 @Service
 public class CadastroCidadeService {
@@ -21,25 +25,36 @@ public class CadastroCidadeService {
 
 	@Autowired
 	private CidadeRepository cidadeRepository;
+
+	@Autowired
+	private RestauranteRepository restauranteRepository;
 	
 	@Autowired
 	private CadastroEstadoService cadastroEstadoService;
 
+	@Cacheable(cacheNames = "cidades", key = "'todas'")
 	public List<Cidade> buscarTodas() {
 		return cidadeRepository.findAll();
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = "cidades", allEntries = true)
 	public Cidade adicionar(Cidade cidade) {
 		Long estadoId = cidade.getEstado().getId();
 		
 		Estado estado = cadastroEstadoService.buscarOuFalhar(estadoId);
 
 		cidade.setEstado(estado);
+
+		// A cidade aparece no endereço dos restaurantes, então a versão (ETag) deles também muda
+		if (cidade.getId() != null) {
+			restauranteRepository.atualizarDataAtualizacaoPorCidade(cidade.getId(), LocalDateTime.now());
+		}
 		return cidadeRepository.save(cidade);
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = "cidades", allEntries = true)
 	public void remover(Long cidadeId) {
 		try {
 			cidadeRepository.deleteById(cidadeId);
@@ -51,8 +66,13 @@ public class CadastroCidadeService {
 		}
 	}
 
+	@Cacheable(cacheNames = "cidades")
 	public Cidade buscarOuFalhar(Long cidadeId) {
 		return cidadeRepository.findById(cidadeId).orElseThrow(
 				() -> new CidadeNaoEncontradaException(cidadeId));
 	}
+
+	public Cidade buscarParaAlteracao(Long cidadeId) {
+		return cidadeRepository.findById(cidadeId).orElseThrow(() -> new CidadeNaoEncontradaException(cidadeId));
+	}
 }
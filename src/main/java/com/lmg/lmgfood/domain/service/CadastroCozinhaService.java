@@ -1,6 +1,11 @@
 package com.lmg.lmgfood.domain.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
@@ -10,6 +15,7 @@ import com.lmg.lmgfood.domain.exception.CozinhaNaoEncontradaException;
 import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.model.Cozinha;
 import com.lmg.lmgfood.domain.repository.CozinhaRepository;
+import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 
 @Service
 public class CadastroCozinhaService {
@@ -19,12 +25,26 @@ public class CadastroCozinhaService {
 	@Autowired
 	private CozinhaRepository cozinhaRepository;
 
+	@Autowired
+	private RestauranteRepository restauranteRepository;
+
+	@Cacheable(cacheNames = "cozinhas", key = "'todas'")
+	public List<Cozinha> buscarTodas() {
+		return cozinhaRepository.findAll();
+	}
+
 	@Transactional
+	@CacheEvict(cacheNames = "cozinhas", allEntries = true)
 	public Cozinha adicionar(Cozinha cozinha) {
+		// O nome da cozinha aparece nos restaurantes, então a versão (ETag) deles também muda
+		if (cozinha.getId() != null) {
+			restauranteRepository.atualizarDataAtualizacaoPorCozinha(cozinha.getId(), LocalDateTime.now());
+		}
 		return cozinhaRepository.save(cozinha);
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = "cozinhas", allEntries = true)
 	public void remover(Long cozinhaId) {
 		try {
 			cozinhaRepository.deleteById(cozinhaId);
@@ -37,7 +57,12 @@ public class CadastroCozinhaService {
 
 	}
 
+	@Cacheable(cacheNames = "cozinhas")
 	public Cozinha buscarOuFalhar(Long cozinhaId) {
 		return cozinhaRepository.findById(cozinhaId).orElseThrow(() -> new CozinhaNaoEncontradaException(cozinhaId));
 	}
+
+	public Cozinha buscarParaAlteracao(Long cozinhaId) {
+		return cozinhaRepository.findById(cozinhaId).orElseThrow(() -> new CozinhaNaoEncontradaException(cozinhaId));
+	}
 }
@@ -1,8 +1,11 @@
 package com.lmg.lmgfood.domain.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
@@ -12,6 +15,7 @@ import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.exception.EstadoNaoEncontradoException;
 import com.lmg.lmgfood.domain.model.Estado;
 import com.lmg.lmgfood.domain.repository.EstadoRepository;
+import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 
 @Service
 public class CadastroEstadoService {
@@ -21,16 +25,24 @@ public class CadastroEstadoService {
 	@Autowired
 	private EstadoRepository estadoRepository;
 
+	@Autowired
+	private RestauranteRepository restauranteRepository;
+
+	@Cacheable(cacheNames = "estados", key = "'todos'")
 	public List<Estado> buscarTodos() {
 		return estadoRepository.findAll();
 	}
 
+	// A cidade guarda o estado, então as cidades em cache também ficam desatualizadas
 	@Transactional
+	@CacheEvict(cacheNames = {"estados", "cidades"}, allEntries = true)
 	public Estado adicionar(Estado estado) {
+		atualizarVersaoRestaurantes(estado);
 		return estadoRepository.save(estado);
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = {"estados", "cidades"}, allEntries = true)
 	public void remover(Long estadoId) {
 		try {
 			estadoRepository.deleteById(estadoId);
@@ -43,12 +55,26 @@ public class CadastroEstadoService {
 
 	}
 
+	@Cacheable(cacheNames = "estados")
 	public Estado buscarOuFalhar(Long estadoId) {
 		return estadoRepository.findById(estadoId).orElseThrow(() -> new EstadoNaoEncontradoException(estadoId));
 	}
 
+	public Estado buscarParaAlteracao(Long estadoId) {
+		return estadoRepository.findById(estadoId).orElseThrow(() -> new EstadoNaoEncontradoException(estadoId));
+	}
+
 	@Transactional
+	@CacheEvict(cacheNames = {"estados", "cidades"}, allEntries = true)
 	public Estado atualizar(Estado estadoId) {
+		atualizarVersaoRestaurantes(estadoId);
 		return estadoRepository.save(estadoId);
 	}
+
+	// O estado aparece no endereço dos restaurantes, então a versão (ETag) deles também muda
+	private void atualizarVersaoRestaurantes(Estado estado) {
+		if (estado.getId() != null) {
+			restauranteRepository.atualizarDataAtualizacaoPorEstado(estado.getId(), LocalDateTime.now());
+		}
+	}
 }
@@ -5,23 +5,34 @@ import com.lmg.lmgfood.domain.exception.FormaPagamentoNaoEncontradoException;
 import com.lmg.lmgfood.domain.model.FormaPagamento;
 import com.lmg.lmgfood.domain.repository.FormaPagamentoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class CadastroFormaPagamentoService {
 
     @Autowired
     private FormaPagamentoRepository formaPagamentoRepository;
 
+    @Cacheable(cacheNames = "formas-pagamento", key = "'todas'")
+    public List<FormaPagamento> buscarTodas() {
+        return formaPagamentoRepository.findAll();
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = "formas-pagamento", allEntries = true)
     public FormaPagamento adicionar(FormaPagamento formaPagamento) {
         return formaPagamentoRepository.save(formaPagamento);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = "formas-pagamento", allEntries = true)
     public void remover(Long formaPagamentoId) {
         try {
             formaPagamentoRepository.deleteById(formaPagamentoId);
@@ -34,11 +45,17 @@ public class CadastroFormaPagamentoService {
 
     }
 
+    @Cacheable(cacheNames = "formas-pagamento")
     public FormaPagamento buscarOuFalhar(Long formaPagamentoId) {
         return formaPagamentoRepository.findById(formaPagamentoId).orElseThrow(() -> new FormaPagamentoNaoEncontradoException(formaPagamentoId));
     }
 
+    public FormaPagamento buscarParaAlteracao(Long formaPagamentoId) {
+        return formaPagamentoRepository.findById(formaPagamentoId).orElseThrow(() -> new FormaPagamentoNaoEncontradoException(formaPagamentoId));
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = "formas-pagamento", allEntries = true)
     public FormaPagamento atualizar(FormaPagamento formaPagamento) {
         return formaPagamentoRepository.save(formaPagamento);
     }
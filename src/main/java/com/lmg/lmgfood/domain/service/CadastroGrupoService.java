@@ -1,11 +1,13 @@
 package com.lmg.lmgfood.domain.service;
 
+import com.lmg.lmgfood.domain.event.AutorizacaoUsuarioAlteradaEvent;
 import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.exception.GrupoNaoEncontradoException;
 import com.lmg.lmgfood.domain.model.Grupo;
 import com.lmg.lmgfood.domain.model.Permissao;
 import com.lmg.lmgfood.domain.repository.GrupoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,9 @@ public class CadastroGrupoService {
     @Autowired
     private CadastroPermissaoService cadastroPermissaoService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Grupo salvar(Grupo grupo) {
         return grupoRepository.save(grupo);
@@ -33,6 +38,7 @@ public class CadastroGrupoService {
         try {
             grupoRepository.deleteById(grupoId);
             grupoRepository.flush();
+            eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.deTodosUsuarios());
 
         } catch (EmptyResultDataAccessException e) {
             throw new GrupoNaoEncontradoException(grupoId);
@@ -54,6 +60,8 @@ public class CadastroGrupoService {
         Permissao permissao = cadastroPermissaoService.buscarOuFalhar(permissaoId);
 
         grupo.removerPermissao(permissao);
+        // Os usuários do grupo não são carregados, todas as autorizações em cache são descartadas
+        eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.deTodosUsuarios());
     }
 
     @Transactional
@@ -62,6 +70,7 @@ public class CadastroGrupoService {
         Permissao permissao = cadastroPermissaoService.buscarOuFalhar(permissaoId);
 
         grupo.adicionarPermissao(permissao);
+        eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.deTodosUsuarios());
     }
 
 }
@@ -4,6 +4,7 @@ import com.lmg.lmgfood.domain.exception.PermissaoNaoEncontradaException;
 import com.lmg.lmgfood.domain.model.Permissao;
 import com.lmg.lmgfood.domain.repository.PermissaoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,6 +13,7 @@ public class CadastroPermissaoService {
     @Autowired
     private PermissaoRepository permissaoRepository;
 
+    @Cacheable(cacheNames = "permissoes")
     public Permissao buscarOuFalhar(Long permissaoId){
         return permissaoRepository.findById(permissaoId)
                 .orElseThrow(() -> new PermissaoNaoEncontradaException(permissaoId));
@@ -3,19 +3,38 @@ package com.lmg.lmgfood.domain.service;
 import com.lmg.lmgfood.domain.exception.ProdutoNaoEncontradaException;
 import com.lmg.lmgfood.domain.model.Produto;
 import com.lmg.lmgfood.domain.repository.ProdutoRepository;
+import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class CadastroProdutoService {
 
     @Autowired
     private ProdutoRepository produtoRepository;
 
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private BuscaRestauranteService buscaRestauranteService;
+
     @Transactional
     public Produto salvar(Produto produto){
-        return produtoRepository.save(produto);
+        produto = produtoRepository.save(produto);
+        // Os produtos não têm data de atualização, o ETag do cardápio usa a versão do restaurante
+        restauranteRepository.atualizarDataAtualizacao(produto.getRestaurante().getId(), LocalDateTime.now());
+        buscaRestauranteService.indexar(produto.getRestaurante().getId());
+
+        return produto;
     }
 
     public Produto buscarOuFalhar(Long restauranteId, Long produtoId){
@@ -23,5 +42,31 @@ public class CadastroProdutoService {
                 .orElseThrow(() -> new ProdutoNaoEncontradaException(restauranteId, produtoId));
     }
 
+    /**
+     * Busca vários produtos do restaurante em uma única consulta
+     * @return produtos indexados pelo código
+     * @throws ProdutoNaoEncontradaException informando todos os códigos que não foram encontrados
+     */
+    public Map<Long, Produto> buscarOuFalhar(Long restauranteId, Collection<Long> produtoIds) {
+        // "in ()" vazio não é SQL válido no MariaDB, e sem códigos não há o que buscar
+        if (produtoIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Produto> produtos = produtoRepository.findByRestauranteAndIdIn(restauranteId, produtoIds).stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+
+        List<Long> naoEncontrados = produtoIds.stream()
+                .filter(produtoId -> !produtos.containsKey(produtoId))
+                .sorted()
+                .collect(Collectors.toList());
+
+        if (!naoEncontrados.isEmpty()) {
+            throw new ProdutoNaoEncontradaException(restauranteId, naoEncontrados);
+        }
+
+        return produtos;
+    }
+
 
 }
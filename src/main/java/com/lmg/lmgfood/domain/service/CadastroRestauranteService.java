@@ -1,11 +1,27 @@
 package com.lmg.lmgfood.domain.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.lmg.lmgfood.domain.model.Cidade;
 import com.lmg.lmgfood.domain.model.FormaPagamento;
 import com.lmg.lmgfood.domain.model.Usuario;
+import com.lmg.lmgfood.domain.model.dto.RestauranteApenasNome;
+import com.lmg.lmgfood.domain.model.dto.RestauranteCompleto;
+import com.lmg.lmgfood.domain.model.dto.RestauranteProximo;
+import com.lmg.lmgfood.domain.model.dto.RestauranteResumo;
+import com.lmg.lmgfood.domain.model.dto.VersaoRecurso;
+import com.lmg.lmgfood.domain.model.enums.SituacaoAtivacao;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +33,9 @@ import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 @Service
 public class CadastroRestauranteService {
 
+	// Mantém a quantidade de parâmetros do "in" abaixo do limite dos bancos
+	private static final int TAMANHO_LOTE = 1000;
+
 	@Autowired
 	private RestauranteRepository restauranteRepository;
 
@@ -32,10 +51,60 @@ public class CadastroRestauranteService {
 	@Autowired
 	private CadastroFormaPagamentoService cadastroFormaPagamentoService;
 
+	@Autowired
+	private BuscaRestauranteService buscaRestauranteService;
+
 	public List<Restaurante> buscarTodos() {
 		return restauranteRepository.findAll();
 	}
 
+	public List<RestauranteApenasNome> buscarTodosApenasNome() {
+		return restauranteRepository.findAllApenasNome();
+	}
+
+	public List<RestauranteResumo> buscarTodosResumo() {
+		return restauranteRepository.findAllResumo();
+	}
+
+	public List<RestauranteCompleto> buscarTodosCompleto() {
+		return restauranteRepository.findAllCompleto();
+	}
+
+	public Page<RestauranteResumo> buscarPaginaResumo(Pageable pageable) {
+		return restauranteRepository.findPaginaResumo(pageable);
+	}
+
+	public Slice<RestauranteResumo> buscarFatiaResumo(Pageable pageable) {
+		return restauranteRepository.findFatiaResumo(pageable);
+	}
+
+	/**
+	 * Busca até {@code limite} restaurantes com código maior que {@code ultimoId}, ordenados pelo código
+	 * @param ultimoId código do último restaurante da página anterior, ou null para a primeira página
+	 */
+	public List<RestauranteResumo> buscarResumoAposId(Long ultimoId, int limite) {
+		return restauranteRepository.findResumoAposId(ultimoId == null ? 0L : ultimoId, PageRequest.of(0, limite));
+	}
+
+	/**
+	 * Busca no índice de busca e carrega os restaurantes encontrados mantendo a ordem de relevância
+	 */
+	public List<RestauranteResumo> buscarResumoPorTermo(String termo, int limite) {
+		List<Long> restauranteIds = buscaRestauranteService.buscar(termo, limite);
+
+		if (restauranteIds.isEmpty()) {
+			return List.of();
+		}
+
+		return restauranteRepository.findResumoByIdIn(restauranteIds).stream()
+				.sorted(Comparator.comparingInt(restaurante -> restauranteIds.indexOf(restaurante.getId())))
+				.collect(Collectors.toList());
+	}
+
+	public List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raio, int limite) {
+		return restauranteRepository.buscarProximos(latitude, longitude, raio, limite);
+	}
+
 	@Transactional
 	public Restaurante adicionar(Restaurante restaurante) {
 		Long cozinhaId = restaurante.getCozinha().getId();
@@ -47,7 +116,10 @@ public class CadastroRestauranteService {
 		restaurante.setCozinha(cozinha);
 		restaurante.getEndereco().setCidade(cidade);
 
-		return restauranteRepository.save(restaurante);
+		restaurante = restauranteRepository.save(restaurante);
+		buscaRestauranteService.indexar(restaurante.getId());
+
+		return restaurante;
 	}
 
 
@@ -65,13 +137,56 @@ public class CadastroRestauranteService {
     }
 
 	@Transactional
-	public void ativar(List<Long> restauranteId){
-		restauranteId.forEach(this::ativar);
+	public Map<Long, SituacaoAtivacao> ativar(List<Long> restauranteIds){
+		return alterarAtivo(restauranteIds, true);
 	}
 
 	@Transactional
-	public void inativar(List<Long> restauranteId){
-		restauranteId.forEach(this::inativar);
+	public Map<Long, SituacaoAtivacao> inativar(List<Long> restauranteIds){
+		return alterarAtivo(restauranteIds, false);
+	}
+
+	/**
+	 * Altera a situação em lotes de {@value TAMANHO_LOTE} códigos, cada lote faz um select para descobrir os
+	 * códigos inexistentes e um único update para os restaurantes que ainda não estão na situação desejada
+	 * @return situação de cada código, na ordem em que foram informados
+	 */
+	private Map<Long, SituacaoAtivacao> alterarAtivo(List<Long> restauranteIds, boolean ativo) {
+		var situacoes = new LinkedHashMap<Long, SituacaoAtivacao>();
+		restauranteIds.forEach(restauranteId -> situacoes.put(restauranteId, SituacaoAtivacao.NAO_ENCONTRADO));
+
+		List<Long> ids = new ArrayList<>(situacoes.keySet());
+		var dataAtualizacao = LocalDateTime.now();
+
+		for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE) {
+			List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE, ids.size()));
+			var alterar = new ArrayList<Long>();
+
+			for (Object[] restaurante : restauranteRepository.findAtivoByIdIn(lote)) {
+				Long restauranteId = (Long) restaurante[0];
+
+				if (Boolean.valueOf(ativo).equals(restaurante[1])) {
+					situacoes.put(restauranteId, SituacaoAtivacao.SEM_ALTERACAO);
+				} else {
+					situacoes.put(restauranteId, SituacaoAtivacao.ALTERADO);
+					alterar.add(restauranteId);
+				}
+			}
+
+			if (!alterar.isEmpty()) {
+				restauranteRepository.atualizarAtivo(alterar, ativo, dataAtualizacao);
+			}
+		}
+
+		return situacoes;
+	}
+
+	public VersaoRecurso buscarVersao() {
+		return restauranteRepository.findVersao();
+	}
+
+	public VersaoRecurso buscarVersao(Long restauranteId) {
+		return restauranteRepository.findVersaoById(restauranteId);
 	}
 
 	public Restaurante buscarOuFalhar(Long restauranteId) {
@@ -1,5 +1,6 @@
 package com.lmg.lmgfood.domain.service;
 
+import com.lmg.lmgfood.domain.event.AutorizacaoUsuarioAlteradaEvent;
 import com.lmg.lmgfood.domain.exception.EntidadeEmUsoException;
 import com.lmg.lmgfood.domain.exception.NegocioException;
 import com.lmg.lmgfood.domain.exception.UsuarioNaoEncontradoException;
@@ -7,8 +8,10 @@ import com.lmg.lmgfood.domain.model.Grupo;
 import com.lmg.lmgfood.domain.model.Usuario;
 import com.lmg.lmgfood.domain.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,12 @@ public class CadastroUsuarioService {
     @Autowired
     private CadastroGrupoService cadastroGrupoService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     public List<Usuario> buscarTodas() {
         return usuarioRepository.findAll();
     }
@@ -33,11 +42,28 @@ public class CadastroUsuarioService {
     @Transactional
     public Usuario adicionar(Usuario usuario) {
         usuarioRepository.detach(usuario);
+        // Com a entidade alterada já desanexada, o findById lê o e-mail gravado no banco
+        Optional<String> emailAntigo = Optional.ofNullable(usuario.getId())
+                .flatMap(usuarioRepository::findById)
+                .map(Usuario::getEmail);
         Optional<Usuario> usuarioExistente = usuarioRepository.findByEmail(usuario.getEmail());
 
         if (usuarioExistente.isPresent() && !usuarioExistente.get().equals(usuario)){
             throw new NegocioException(String.format("Já existe um usuário com o e-mail %s", usuario.getEmail()));
         }
+
+        // Só o cadastro recebe a senha, a atualização não altera a senha já gravada com hash
+        if (usuario.getId() == null) {
+            usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
+        }
+
+        // As autorizações em cache são indexadas pelo e-mail, o antigo e o novo quando o e-mail muda
+        emailAntigo.ifPresent(email -> {
+            eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.doUsuario(email));
+            if (!email.equals(usuario.getEmail())) {
+                eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.doUsuario(usuario.getEmail()));
+            }
+        });
         return usuarioRepository.save(usuario);
     }
 
@@ -46,6 +72,7 @@ public class CadastroUsuarioService {
         try {
             usuarioRepository.deleteById(usuarioId);
             usuarioRepository.flush();
+            eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.deTodosUsuarios());
         } catch (EmptyResultDataAccessException e) {
             throw new UsuarioNaoEncontradoException(usuarioId);
         } catch (DataIntegrityViolationException e) {
@@ -62,11 +89,12 @@ public class CadastroUsuarioService {
     public void alterarSenha(Long usuarioId, String senhaAtual, String novaSenha) {
         Usuario usuario = buscarOuFalhar(usuarioId);
 
-        if (usuario.senhaNaoCoincideCom(senhaAtual)) {
+        if (usuario.senhaNaoCoincideCom(senhaAtual, passwordEncoder)) {
             throw new NegocioException("Senha atual informada não coincide com a senha do usuário.");
         }
 
-        usuario.setSenha(novaSenha);
+        usuario.setSenha(passwordEncoder.encode(novaSenha));
+        eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.doUsuario(usuario.getEmail()));
     }
 
     @Transactional
@@ -75,11 +103,13 @@ public class CadastroUsuarioService {
         Grupo grupo = cadastroGrupoService.buscarOuFalhar(grupoId);
 
         usuario.removerGrupo(grupo);
+        eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.doUsuario(usuario.getEmail()));
     }
     @Transactional
     public void associarGrupo(Long usuarioId, Long grupoId){
         Usuario usuario = buscarOuFalhar(usuarioId);
         Grupo grupo = cadastroGrupoService.buscarOuFalhar(grupoId);
         usuario.adicionarGrupo(grupo);
+        eventPublisher.publishEvent(AutorizacaoUsuarioAlteradaEvent.doUsuario(usuario.getEmail()));
     }
 }
@@ -9,10 +9,15 @@ import com.lmg.lmgfood.domain.model.Produto;
 import com.lmg.lmgfood.domain.model.Restaurante;
 import com.lmg.lmgfood.domain.model.Usuario;
 import com.lmg.lmgfood.domain.repository.PedidoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class EmissaoPedidoService {
 
@@ -34,11 +39,22 @@ public class EmissaoPedidoService {
     @Autowired
     private CadastroProdutoService cadastroProdutoService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public Pedido buscarOuFalhar(String codigoPedido) {
         return pedidoRepository.findByCodigo(codigoPedido)
                 .orElseThrow(() -> new PedidoNaoEncontradoException(codigoPedido));
     }
 
+    /**
+     * Busca o pedido com todas as associações exibidas no detalhe já carregadas, em uma única consulta
+     */
+    public Pedido buscarDetalheOuFalhar(String codigoPedido) {
+        return pedidoRepository.findDetalheByCodigo(codigoPedido)
+                .orElseThrow(() -> new PedidoNaoEncontradoException(codigoPedido));
+    }
+
     @Transactional
     public Pedido emitir(Pedido pedido) {
         this.validarPedido(pedido);
@@ -47,7 +63,10 @@ public class EmissaoPedidoService {
         pedido.setTaxaFrete(pedido.getRestaurante().getTaxaFrete());
         pedido.calcularValorTotal();
 
-        return pedidoRepository.save(pedido);
+        pedido = pedidoRepository.save(pedido);
+        meterRegistry.counter("lmgfood.pedidos.emitidos").increment();
+
+        return pedido;
     }
 
 
@@ -69,9 +88,15 @@ public class EmissaoPedidoService {
     }
 
     private void validarItens(Pedido pedido) {
+        Set<Long> produtoIds = pedido.getItens().stream()
+                .map(item -> item.getProduto().getId())
+                .collect(Collectors.toSet());
+
+        //busca todos os produtos do pedido de uma vez, em vez de uma consulta por item
+        Map<Long, Produto> produtos = cadastroProdutoService.buscarOuFalhar(pedido.getRestaurante().getId(), produtoIds);
+
         pedido.getItens().forEach(item -> {
-            Produto produto = cadastroProdutoService.buscarOuFalhar(
-                    pedido.getRestaurante().getId(), item.getProduto().getId());
+            Produto produto = produtos.get(item.getProduto().getId());
 
             item.setPedido(pedido);
             item.setProduto(produto);
@@ -0,0 +1,216 @@
+package com.lmg.lmgfood.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lmg.lmgfood.domain.exception.RelatorioNaoEncontradoException;
+import com.lmg.lmgfood.domain.filter.VendaDiariaFilter;
+import com.lmg.lmgfood.domain.model.dto.RelatorioVendaJob;
+import com.lmg.lmgfood.domain.model.dto.VendaDiaria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gera os PDFs de vendas diárias fora da thread da requisição e guarda os últimos relatórios gerados.
+ * A chave do cache é o hash dos dados do relatório, então qualquer nova venda no período
+ * gera uma chave diferente e o PDF antigo deixa de ser usado.
+ */
+@Service
+public class EmissaoRelatorioVendaService {
+
+    private static final int MAXIMO_RELATORIOS_EM_CACHE = 32;
+
+    // Cada solicitação mantém o PDF até expirar, mesmo depois de sair do cache de relatórios
+    private static final int MAXIMO_SOLICITACOES = 100;
+
+    private static final long VALIDADE_SOLICITACAO_HORAS = 1;
+
+    @Autowired
+    private VendaQueryService vendaQueryService;
+
+    @Autowired
+    private VendaReportService vendaReportService;
+
+    @Autowired
+    @Qualifier("relatorioTaskExecutor")
+    private ThreadPoolTaskExecutor relatorioTaskExecutor;
+
+    // Emissões síncronas preenchendo relatórios ao mesmo tempo, no máximo o número de threads do executor
+    private Semaphore emissoesSincronas;
+
+    private final Cache<String, RelatorioVendaJob> solicitacoes = Caffeine.newBuilder()
+            .maximumSize(MAXIMO_SOLICITACOES)
+            .expireAfterWrite(VALIDADE_SOLICITACAO_HORAS, TimeUnit.HOURS)
+            .build();
+
+    private final Map<String, CompletableFuture<byte[]>> relatorios = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<byte[]>> eldest) {
+                    return size() > MAXIMO_RELATORIOS_EM_CACHE;
+                }
+            });
+
+    @PostConstruct
+    public void inicializar() {
+        emissoesSincronas = new Semaphore(relatorioTaskExecutor.getMaxPoolSize());
+    }
+
+    /**
+     * Registra a solicitação do relatório e retorna imediatamente, o PDF é gerado em segundo plano.
+     * Com o limite de solicitações atingido, recusa a nova em vez de descartar uma que ainda será baixada.
+     */
+    public RelatorioVendaJob solicitar(VendaDiariaFilter filtro, String timeOffset) {
+        solicitacoes.cleanUp();
+        if (solicitacoes.estimatedSize() >= MAXIMO_SOLICITACOES) {
+            throw new RejectedExecutionException("Limite de solicitações de relatório atingido");
+        }
+
+        var solicitacao = new RelatorioVendaJob(UUID.randomUUID().toString(), OffsetDateTime.now(),
+                buscarOuGerar(filtro, timeOffset));
+        solicitacoes.put(solicitacao.getId(), solicitacao);
+
+        return solicitacao;
+    }
+
+    public RelatorioVendaJob buscarOuFalhar(String relatorioId) {
+        var solicitacao = solicitacoes.getIfPresent(relatorioId);
+
+        if (solicitacao == null) {
+            throw new RelatorioNaoEncontradoException(relatorioId);
+        }
+        return solicitacao;
+    }
+
+    /**
+     * Emite o relatório na thread da requisição, reaproveitando o PDF em cache quando os dados não mudaram.
+     * Sem PDF em cache, o exporter escreve na saída à medida que gera as páginas e o PDF é guardado no cache.
+     * O preenchimento tem o mesmo limite de concorrência do executor de relatórios: sem vaga, a emissão é
+     * recusada antes de escrever qualquer byte.
+     */
+    public void emitir(VendaDiariaFilter filtro, String timeOffset, OutputStream saida) throws IOException {
+        List<VendaDiaria> vendasDiarias = vendaQueryService.consultarVendasDiarias(filtro, timeOffset);
+        String chave = calcularChave(vendasDiarias);
+        byte[] emCache = buscarEmCache(chave);
+
+        if (emCache != null) {
+            saida.write(emCache);
+            return;
+        }
+
+        if (!emissoesSincronas.tryAcquire()) {
+            throw new RejectedExecutionException("Limite de emissões de relatório atingido");
+        }
+
+        try {
+            var pdf = new ByteArrayOutputStream();
+            vendaReportService.emitirVendasDiarias(vendasDiarias, new CopiaOutputStream(saida, pdf));
+
+            relatorios.putIfAbsent(chave, CompletableFuture.completedFuture(pdf.toByteArray()));
+        } finally {
+            emissoesSincronas.release();
+        }
+    }
+
+    // PDF já gerado ou em geração com os mesmos dados, null quando não existe ou a geração falhou
+    private byte[] buscarEmCache(String chave) {
+        CompletableFuture<byte[]> relatorio = relatorios.get(chave);
+
+        if (relatorio == null) {
+            return null;
+        }
+
+        try {
+            return relatorio.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<byte[]> buscarOuGerar(VendaDiariaFilter filtro, String timeOffset) {
+        // A consulta é barata (tabela de rollup), o custo está no preenchimento e exportação do PDF
+        List<VendaDiaria> vendasDiarias = vendaQueryService.consultarVendasDiarias(filtro, timeOffset);
+        String chave = calcularChave(vendasDiarias);
+
+        CompletableFuture<byte[]> relatorio = relatorios.computeIfAbsent(chave, k ->
+                CompletableFuture.supplyAsync(() -> gerar(vendasDiarias), relatorioTaskExecutor));
+
+        // Não mantém falhas no cache, a próxima solicitação tenta gerar novamente
+        relatorio.whenComplete((pdf, erro) -> {
+            if (erro != null) {
+                relatorios.remove(chave, relatorio);
+            }
+        });
+
+        return relatorio;
+    }
+
+    private byte[] gerar(List<VendaDiaria> vendasDiarias) {
+        var pdf = new ByteArrayOutputStream();
+        vendaReportService.emitirVendasDiarias(vendasDiarias, pdf);
+
+        return pdf.toByteArray();
+    }
+
+    private String calcularChave(List<VendaDiaria> vendasDiarias) {
+        var conteudo = new StringBuilder();
+
+        vendasDiarias.forEach(vendaDiaria -> conteudo
+                .append(vendaDiaria.getData()).append(';')
+                .append(vendaDiaria.getTotalVendas()).append(';')
+                .append(vendaDiaria.getTotalFaturado().toPlainString()).append('\n'));
+
+        return DigestUtils.md5DigestAsHex(conteudo.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Escreve na saída e guarda uma cópia dos bytes para o cache
+     */
+    private static final class CopiaOutputStream extends OutputStream {
+
+        private final OutputStream saida;
+
+        private final ByteArrayOutputStream copia;
+
+        private CopiaOutputStream(OutputStream saida, ByteArrayOutputStream copia) {
+            this.saida = saida;
+            this.copia = copia;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            saida.write(b);
+            copia.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            saida.write(b, off, len);
+            copia.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            saida.flush();
+        }
+    }
+}
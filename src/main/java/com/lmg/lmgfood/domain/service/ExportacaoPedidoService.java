@@ -0,0 +1,28 @@
+package com.lmg.lmgfood.domain.service;
+
+import com.lmg.lmgfood.domain.filter.PedidoFilter;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.repository.PedidoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportacaoPedidoService {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    /**
+     * Entrega cada pedido do filtro ao consumidor, mantendo o uso de memória constante
+     * independente da quantidade de pedidos
+     */
+    @Transactional(readOnly = true)
+    public void exportar(PedidoFilter filtro, Consumer<Pedido> consumidor) {
+        pedidoRepository.percorrer(filtro, TAMANHO_LOTE, consumidor);
+    }
+}
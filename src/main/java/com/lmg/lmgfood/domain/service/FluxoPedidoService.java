@@ -1,32 +1,125 @@
 package com.lmg.lmgfood.domain.service;
 
-import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.event.PedidoStatusAlteradoEvent;
+import com.lmg.lmgfood.domain.exception.PedidoAlteradoConcorrentementeException;
+import com.lmg.lmgfood.domain.exception.PedidoNaoEncontradoException;
+import com.lmg.lmgfood.domain.exception.StatusPedidoInvalidoException;
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
+import com.lmg.lmgfood.domain.model.enums.SituacaoTransicao;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import com.lmg.lmgfood.domain.repository.PedidoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 public class FluxoPedidoService {
 
     @Autowired
-    private EmissaoPedidoService emissaoPedidoService;
+    private VendaRollupService vendaRollupService;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Transactional
     public void confirmar(String codigoPedido) {
-        Pedido pedido = emissaoPedidoService.buscarOuFalhar(codigoPedido);
-        pedido.confirmar();
+        alterarStatus(codigoPedido, StatusPedido.CONFIRMADO);
     }
 
 
     @Transactional
     public void cancelar(String codigoPedido) {
-        Pedido pedido = emissaoPedidoService.buscarOuFalhar(codigoPedido);
-        pedido.cancelar();
+        alterarStatus(codigoPedido, StatusPedido.CANCELADO);
     }
 
     @Transactional
     public void entregar(String codigoPedido) {
-        Pedido pedido = emissaoPedidoService.buscarOuFalhar(codigoPedido);
-        pedido.entregar();
+        alterarStatus(codigoPedido, StatusPedido.ENTREGUE);
+    }
+
+    /**
+     * Altera o status de vários pedidos em uma única transação. As transições são validadas em memória e o lote
+     * faz um select com bloqueio, um update por status de origem e um upsert no rollup. O tamanho do lote é
+     * limitado pelo TransicaoPedidosForm.
+     * @return situação de cada código, na ordem em que foram informados
+     */
+    @Transactional
+    public Map<String, SituacaoTransicao> alterarStatus(List<String> codigosPedido, StatusPedido novoStatus) {
+        var situacoes = new LinkedHashMap<String, SituacaoTransicao>();
+        codigosPedido.forEach(codigo -> situacoes.put(codigo, SituacaoTransicao.NAO_ENCONTRADO));
+
+        var dataAlteracao = LocalDateTime.now();
+        var alterados = new ArrayList<PedidoSituacao>();
+
+        for (PedidoSituacao pedido : pedidoRepository.buscarSituacoesParaAlteracao(situacoes.keySet())) {
+            if (pedido.getStatus().naoPodeAlterarPara(novoStatus)) {
+                situacoes.put(pedido.getCodigo(), SituacaoTransicao.STATUS_INVALIDO);
+            } else {
+                situacoes.put(pedido.getCodigo(), SituacaoTransicao.ALTERADO);
+                alterados.add(pedido);
+            }
+        }
+
+        alterados.stream()
+                .collect(Collectors.groupingBy(PedidoSituacao::getStatus))
+                .forEach((statusAtual, pedidos) -> pedidoRepository.alterarStatus(
+                        pedidos.stream().map(PedidoSituacao::getId).collect(Collectors.toList()),
+                        statusAtual, novoStatus, dataAlteracao));
+
+        vendaRollupService.registrarAlteracoesStatus(alterados, novoStatus);
+        contarTransicoes(novoStatus, "lote", alterados.size());
+        alterados.forEach(pedido -> publicarAlteracao(pedido, novoStatus));
+
+        return situacoes;
+    }
+
+    /**
+     * Lê apenas a situação do pedido e grava o novo status com um update condicional na versão lida.
+     * Se outra requisição alterou o pedido nesse meio tempo nenhuma linha é atualizada e a alteração é recusada.
+     */
+    private void alterarStatus(String codigoPedido, StatusPedido novoStatus) {
+        PedidoSituacao pedido = pedidoRepository.findSituacaoByCodigo(codigoPedido)
+                .orElseThrow(() -> new PedidoNaoEncontradoException(codigoPedido));
+
+        if (pedido.getStatus().naoPodeAlterarPara(novoStatus)) {
+            throw new StatusPedidoInvalidoException(codigoPedido, pedido.getStatus(), novoStatus);
+        }
+
+        if (!pedidoRepository.alterarStatus(pedido, novoStatus, LocalDateTime.now())) {
+            meterRegistry.counter("lmgfood.pedidos.transicoes.conflitos", "status", novoStatus.name()).increment();
+            throw new PedidoAlteradoConcorrentementeException(codigoPedido);
+        }
+
+        vendaRollupService.registrarAlteracaoStatus(pedido, novoStatus);
+        contarTransicoes(novoStatus, "unitaria", 1);
+
+        publicarAlteracao(pedido, novoStatus);
+    }
+
+    private void contarTransicoes(StatusPedido novoStatus, String modo, int quantidade) {
+        meterRegistry.counter("lmgfood.pedidos.transicoes", "status", novoStatus.name(), "modo", modo)
+                .increment(quantidade);
+    }
+
+    // Gravado no outbox nesta mesma transação
+    private void publicarAlteracao(PedidoSituacao pedido, StatusPedido novoStatus) {
+        eventPublisher.publishEvent(new PedidoStatusAlteradoEvent(pedido.getId(), pedido.getCodigo(),
+                pedido.getRestauranteId(), pedido.getStatus(), novoStatus, OffsetDateTime.now()));
     }
 }
@@ -0,0 +1,112 @@
+package com.lmg.lmgfood.domain.service;
+
+import com.lmg.lmgfood.domain.event.PedidoEventoPublicado;
+import com.lmg.lmgfood.domain.event.PedidoStatusAlteradoEvent;
+import com.lmg.lmgfood.domain.model.PedidoEvento;
+import com.lmg.lmgfood.domain.repository.PedidoEventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox transacional dos eventos de pedido. O evento é gravado na mesma transação que altera o pedido
+ * e um relay em segundo plano entrega os eventos pendentes aos listeners locais, em lotes.
+ * Um evento só sai do outbox depois que todos os listeners terminaram sem erro.
+ * <p>
+ * A entrega é ao menos uma vez e em ordem dentro de cada pedido: o relay só reserva o evento mais antigo de
+ * cada pedido, então o seguinte espera o anterior ser entregue. Um evento que esgota as tentativas fica no
+ * outbox para análise e segura os eventos seguintes do mesmo pedido até ser tratado, os demais pedidos
+ * continuam sendo entregues.
+ */
+@Slf4j
+@Service
+public class OutboxPedidoService {
+
+    private static final int TAMANHO_LOTE = 100;
+
+    private static final int MAXIMO_TENTATIVAS = 10;
+
+    // Tempo em que o lote fica com a instância que o reservou, também é o intervalo até tentar de novo uma falha
+    private static final Duration DURACAO_RESERVA = Duration.ofMinutes(1);
+
+    @Autowired
+    private PedidoEventoRepository pedidoEventoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Sem transação ativa o evento se perderia no rollback, por isso a transação é obrigatória
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(PedidoStatusAlteradoEvent evento) {
+        pedidoEventoRepository.save(PedidoEvento.de(evento));
+    }
+
+    @Scheduled(fixedDelayString = "${lmgfood.outbox.intervalo:1000}")
+    public void publicarPendentes() {
+        List<PedidoEvento> eventos;
+
+        do {
+            eventos = reservarLote();
+            publicar(eventos);
+        } while (eventos.size() == TAMANHO_LOTE);
+    }
+
+    /**
+     * Reserva os próximos eventos disponíveis para esta execução. Eventos reservados por outra instância
+     * entre a busca e a reserva ficam de fora do lote.
+     */
+    private List<PedidoEvento> reservarLote() {
+        var agora = OffsetDateTime.now();
+        List<Long> disponiveis = pedidoEventoRepository.findIdsDisponiveis(MAXIMO_TENTATIVAS, agora,
+                PageRequest.of(0, TAMANHO_LOTE));
+
+        if (disponiveis.isEmpty()) {
+            return List.of();
+        }
+
+        var reserva = UUID.randomUUID().toString();
+        pedidoEventoRepository.reservar(disponiveis, reserva, agora.plus(DURACAO_RESERVA), agora);
+
+        return pedidoEventoRepository.findByReserva(reserva);
+    }
+
+    /**
+     * Entrega cada evento do lote, que tem no máximo um evento por pedido. A falha de um evento não impede os
+     * demais: ele continua reservado e volta a ser tentado quando a reserva vencer. Os entregues são removidos
+     * mesmo quando algum falha.
+     */
+    private void publicar(List<PedidoEvento> eventos) {
+        var entregues = new ArrayList<Long>();
+
+        try {
+            for (PedidoEvento evento : eventos) {
+                try {
+                    eventPublisher.publishEvent(new PedidoEventoPublicado(evento.getId(), evento.toEvent()));
+                    entregues.add(evento.getId());
+                } catch (RuntimeException e) {
+                    log.error(String.format("Falha ao entregar o evento %d do pedido %s", evento.getId(),
+                            evento.getPedidoCodigo()), e);
+
+                    pedidoEventoRepository.registrarFalha(evento.getId());
+                }
+            }
+        } finally {
+            if (!entregues.isEmpty()) {
+                pedidoEventoRepository.removerEntregues(entregues);
+            }
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.lmg.lmgfood.domain.service;
 
 import com.lmg.lmgfood.domain.filter.VendaDiariaFilter;
+import com.lmg.lmgfood.domain.model.dto.VendaDiaria;
+
+import java.io.OutputStream;
+import java.util.List;
 
 public interface VendaReportService {
 
-    byte[] emitirVendasDiarias(VendaDiariaFilter filtro, String timeOffset);
+    void emitirVendasDiarias(VendaDiariaFilter filtro, String timeOffset, OutputStream saida);
+
+    void emitirVendasDiarias(List<VendaDiaria> vendasDiarias, OutputStream saida);
 }
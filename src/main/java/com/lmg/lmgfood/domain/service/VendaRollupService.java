@@ -0,0 +1,25 @@
+package com.lmg.lmgfood.domain.service;
+
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+
+import java.util.List;
+
+public interface VendaRollupService {
+
+    /**
+     * Atualiza os totais pré-agregados de vendas após a mudança de status do pedido,
+     * deve ser chamado na mesma transação da alteração
+     * @param pedido situação do pedido antes da alteração
+     * @param novoStatus status gravado no pedido
+     */
+    void registrarAlteracaoStatus(PedidoSituacao pedido, StatusPedido novoStatus);
+
+    /**
+     * Mesmo que {@link #registrarAlteracaoStatus(PedidoSituacao, StatusPedido)} para vários pedidos,
+     * agrupando os totais por restaurante e hora em um único upsert
+     * @param pedidos situação dos pedidos antes da alteração
+     * @param novoStatus status gravado em todos os pedidos
+     */
+    void registrarAlteracoesStatus(List<PedidoSituacao> pedidos, StatusPedido novoStatus);
+}
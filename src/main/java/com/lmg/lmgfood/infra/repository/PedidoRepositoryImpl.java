@@ -0,0 +1,160 @@
+package com.lmg.lmgfood.infra.repository;
+
+import com.lmg.lmgfood.domain.filter.PedidoCursor;
+import com.lmg.lmgfood.domain.filter.PedidoFilter;
+import com.lmg.lmgfood.domain.model.Pedido;
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import com.lmg.lmgfood.domain.repository.PedidoRepositoryQueries;
+import com.lmg.lmgfood.infra.repository.specification.PedidoSpecs;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+public class PedidoRepositoryImpl implements PedidoRepositoryQueries {
+
+    @PersistenceContext
+    private EntityManager manager;
+
+    // Paginação por keyset: usa o índice (data_criacao, id) e não precisa de offset nem count
+    @Override
+    public List<Pedido> buscarComCursor(PedidoFilter filtro, PedidoCursor cursor, int limite) {
+        var builder = manager.getCriteriaBuilder();
+        CriteriaQuery<Pedido> criteria = builder.createQuery(Pedido.class);
+        Root<Pedido> root = criteria.from(Pedido.class);
+
+        Specification<Pedido> specification = PedidoSpecs.usandoFiltro(filtro);
+
+        if (cursor != null) {
+            specification = specification.and(PedidoSpecs.aposCursor(cursor));
+        }
+
+        criteria.where(specification.toPredicate(root, criteria, builder));
+        criteria.orderBy(builder.desc(root.get("dataCriacao")), builder.desc(root.get("id")));
+
+        return manager.createQuery(criteria)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public void percorrer(PedidoFilter filtro, int tamanhoLote, Consumer<Pedido> consumidor) {
+        var builder = manager.getCriteriaBuilder();
+        CriteriaQuery<Pedido> criteria = builder.createQuery(Pedido.class);
+        Root<Pedido> root = criteria.from(Pedido.class);
+
+        criteria.where(PedidoSpecs.usandoFiltro(filtro).toPredicate(root, criteria, builder));
+        criteria.orderBy(builder.asc(root.get("dataCriacao")), builder.asc(root.get("id")));
+
+        // Integer.MIN_VALUE faz os drivers MySQL/MariaDB lerem as linhas sob demanda em vez de carregar tudo
+        try (Stream<Pedido> pedidos = manager.createQuery(criteria)
+                .setHint(QueryHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream()) {
+
+            int processados = 0;
+            Iterator<Pedido> iterator = pedidos.iterator();
+
+            while (iterator.hasNext()) {
+                consumidor.accept(iterator.next());
+
+                // Desanexa os pedidos já processados para o contexto de persistência não crescer
+                if (++processados % tamanhoLote == 0) {
+                    manager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean alterarStatus(PedidoSituacao pedido, StatusPedido novoStatus, LocalDateTime dataAlteracao) {
+        String jpql = String.format("update Pedido p set p.status = :novoStatus, p.%s = :dataAlteracao, "
+                + "p.versao = p.versao + 1 where p.id = :id and p.status = :statusAtual and p.versao = :versao",
+                propriedadeDataStatus(novoStatus));
+
+        return manager.createQuery(jpql)
+                .setParameter("novoStatus", novoStatus)
+                .setParameter("dataAlteracao", dataAlteracao)
+                .setParameter("id", pedido.getId())
+                .setParameter("statusAtual", pedido.getStatus())
+                .setParameter("versao", pedido.getVersao())
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public List<PedidoSituacao> buscarSituacoesParaAlteracao(Collection<String> codigos) {
+        // O "order by" não define a ordem do bloqueio, o InnoDB bloqueia as linhas na ordem do índice usado na busca.
+        // Por isso os códigos viram ids sem bloqueio e o bloqueio é feito pela chave primária: a lista do "in" é
+        // percorrida em ordem crescente de id, e duas alterações em lote não travam uma à outra
+        List<Long> ids = manager.createQuery("select p.id from Pedido p where p.codigo in :codigos order by p.id",
+                Long.class)
+                .setParameter("codigos", codigos)
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> pedidos = manager.createNativeQuery("select id, codigo, status, versao, restaurante_id, valor_total, "
+                + "data_criacao from pedido where id in (:ids) order by id for update", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        return pedidos.stream()
+                .map(pedido -> new PedidoSituacao(
+                        ((Number) pedido.get("id")).longValue(),
+                        pedido.get("codigo", String.class),
+                        StatusPedido.valueOf(pedido.get("status", String.class)),
+                        ((Number) pedido.get("versao")).longValue(),
+                        ((Number) pedido.get("restaurante_id")).longValue(),
+                        (BigDecimal) pedido.get("valor_total"),
+                        ((Timestamp) pedido.get("data_criacao")).toInstant().atOffset(ZoneOffset.UTC)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int alterarStatus(Collection<Long> pedidoIds, StatusPedido statusAtual, StatusPedido novoStatus,
+                             LocalDateTime dataAlteracao) {
+        String jpql = String.format("update Pedido p set p.status = :novoStatus, p.%s = :dataAlteracao, "
+                + "p.versao = p.versao + 1 where p.id in :ids and p.status = :statusAtual",
+                propriedadeDataStatus(novoStatus));
+
+        return manager.createQuery(jpql)
+                .setParameter("novoStatus", novoStatus)
+                .setParameter("dataAlteracao", dataAlteracao)
+                .setParameter("ids", pedidoIds)
+                .setParameter("statusAtual", statusAtual)
+                .executeUpdate();
+    }
+
+    private String propriedadeDataStatus(StatusPedido status) {
+        switch (status) {
+            case CONFIRMADO:
+                return "dataConfirmacao";
+            case CANCELADO:
+                return "dataCancelamento";
+            case ENTREGUE:
+                return "dataEntrega";
+            default:
+                throw new IllegalArgumentException(String.format("O status %s não possui data de alteração", status));
+        }
+    }
+}
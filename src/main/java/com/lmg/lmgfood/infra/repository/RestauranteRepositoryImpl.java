@@ -6,9 +6,11 @@ import static com.lmg.lmgfood.infra.repository.specification.RestauranteSpecs.co
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
@@ -19,12 +21,31 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import com.lmg.lmgfood.domain.model.Restaurante;
+import com.lmg.lmgfood.domain.model.dto.RestauranteProximo;
 import com.lmg.lmgfood.domain.repository.RestauranteRepository;
 import com.lmg.lmgfood.domain.repository.RestauranteRepositoryQueries;
 
 @Repository
 public class RestauranteRepositoryImpl implements RestauranteRepositoryQueries { // Consulta Dinamica
 
+	private static final double RAIO_TERRA_KM = 6371;
+
+	private static final double KM_POR_GRAU_LATITUDE = 111.045;
+
+	// O between na latitude e longitude usa o índice idx_restaurante_localizacao para descartar tudo fora do
+	// retângulo que envolve o raio, a distância exata (haversine) só é calculada para o que sobrou
+	private static final String CONSULTA_PROXIMOS = "select r.id, r.nome, r.taxa_frete, c.id as cozinha_id, c.nome as cozinha_nome, "
+			+ "(:raioTerra * acos(least(1, cos(radians(:latitude)) * cos(radians(r.endereco_latitude)) "
+			+ "* cos(radians(r.endereco_longitude) - radians(:longitude)) "
+			+ "+ sin(radians(:latitude)) * sin(radians(r.endereco_latitude))))) as distancia "
+			+ "from restaurante r join cozinha c on c.id = r.cozinha_id "
+			+ "where r.endereco_latitude between :latitudeMinima and :latitudeMaxima "
+			+ "and r.endereco_longitude between :longitudeMinima and :longitudeMaxima "
+			+ "and r.ativo = true and r.aberto = true "
+			+ "having distancia <= :raio "
+			+ "order by distancia "
+			+ "limit :limite";
+
 	@PersistenceContext
 	private EntityManager manager;
 	
@@ -64,4 +85,34 @@ public class RestauranteRepositoryImpl implements RestauranteRepositoryQueries {
 		return restauranteRepository.findAll(comFreteGratis().and(comNomeSemelhante(nome)));
 	}
 
+	@Override
+	public List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raio, int limite) {
+		double variacaoLatitude = raio / KM_POR_GRAU_LATITUDE;
+		// Um grau de longitude diminui em direção aos polos
+		double variacaoLongitude = raio / (KM_POR_GRAU_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+		@SuppressWarnings("unchecked")
+		List<Tuple> restaurantes = manager.createNativeQuery(CONSULTA_PROXIMOS, Tuple.class)
+				.setParameter("raioTerra", RAIO_TERRA_KM)
+				.setParameter("latitude", latitude)
+				.setParameter("longitude", longitude)
+				.setParameter("latitudeMinima", latitude - variacaoLatitude)
+				.setParameter("latitudeMaxima", latitude + variacaoLatitude)
+				.setParameter("longitudeMinima", longitude - variacaoLongitude)
+				.setParameter("longitudeMaxima", longitude + variacaoLongitude)
+				.setParameter("raio", raio)
+				.setParameter("limite", limite)
+				.getResultList();
+
+		return restaurantes.stream()
+				.map(restaurante -> new RestauranteProximo(
+						((Number) restaurante.get("id")).longValue(),
+						restaurante.get("nome", String.class),
+						(BigDecimal) restaurante.get("taxa_frete"),
+						((Number) restaurante.get("cozinha_id")).longValue(),
+						restaurante.get("cozinha_nome", String.class),
+						((Number) restaurante.get("distancia")).doubleValue()))
+				.collect(Collectors.toList());
+	}
+
 }
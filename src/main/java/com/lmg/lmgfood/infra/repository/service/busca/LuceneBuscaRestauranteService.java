@@ -0,0 +1,271 @@
+package com.lmg.lmgfood.infra.repository.service.busca;
+
+import com.lmg.lmgfood.domain.service.BuscaRestauranteService;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice de busca dos restaurantes em memória com Lucene, um documento por restaurante.
+ * As buscas leem direto do IndexWriter (near real-time), então não é preciso fazer commit do índice.
+ * É recriado a partir do banco quando a aplicação sobe e atualizado a cada cadastro de restaurante ou produto.
+ */
+@Repository
+public class LuceneBuscaRestauranteService implements BuscaRestauranteService {
+
+    private static final String CAMPO_ID = "id";
+    private static final String CAMPO_NOME = "nome";
+    private static final String CAMPO_COZINHA = "cozinha";
+    private static final String CAMPO_PRODUTOS = "produtos";
+
+    // O nome do restaurante pesa mais que a cozinha, que pesa mais que os produtos
+    private static final Map<String, Float> PESO_CAMPOS = Map.of(CAMPO_NOME, 3f, CAMPO_COZINHA, 2f, CAMPO_PRODUTOS, 1f);
+
+    // Termo exato vale mais que prefixo, que vale mais que termo com erro de digitação
+    private static final float PESO_PREFIXO = 0.5f;
+    private static final float PESO_APROXIMADO = 0.3f;
+
+    private static final int TAMANHO_MINIMO_APROXIMADO = 3;
+    private static final int TAMANHO_MINIMO_DUAS_EDICOES = 6;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Analyzer analyzer;
+
+    private IndexWriter indexWriter;
+
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void inicializar() throws IOException {
+        // Remove acentos para "pao" encontrar "Pão"
+        analyzer = CustomAnalyzer.builder()
+                .withTokenizer("standard")
+                .addTokenFilter("lowercase")
+                .addTokenFilter("asciiFolding")
+                .build();
+
+        indexWriter = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @PreDestroy
+    public void finalizar() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexarAoIniciar() {
+        indexarTodos();
+    }
+
+    @Override
+    public List<Long> buscar(String termo, int limite) {
+        Query query = criarQuery(termo);
+
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                var restauranteIds = new ArrayList<Long>();
+
+                for (ScoreDoc resultado : searcher.search(query, limite).scoreDocs) {
+                    Document documento = searcher.doc(resultado.doc, Set.of(CAMPO_ID));
+                    restauranteIds.add(Long.valueOf(documento.get(CAMPO_ID)));
+                }
+                return restauranteIds;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void indexar(Long restauranteId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            atualizarIndice(restauranteId);
+            return;
+        }
+
+        // Só indexa o que foi confirmado no banco, um rollback não deixa o restaurante no índice
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                atualizarIndice(restauranteId);
+            }
+        });
+    }
+
+    @Override
+    public void indexarTodos() {
+        Map<Long, Document> documentos = carregarDocumentos(null);
+
+        try {
+            indexWriter.deleteAll();
+            indexWriter.addDocuments(documentos.values());
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void atualizarIndice(Long restauranteId) {
+        Document documento = carregarDocumentos(restauranteId).get(restauranteId);
+        var chave = new Term(CAMPO_ID, restauranteId.toString());
+
+        try {
+            if (documento == null) {
+                indexWriter.deleteDocuments(chave);
+            } else {
+                indexWriter.updateDocument(chave, documento);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Monta os documentos com duas consultas, uma para os restaurantes e outra para os produtos ativos.
+     * Roda em uma transação nova porque também é chamado após o commit da transação do cadastro.
+     */
+    private Map<Long, Document> carregarDocumentos(Long restauranteId) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate.execute(status -> {
+            var documentos = new LinkedHashMap<Long, Document>();
+
+            var restaurantes = entityManager.createQuery("select r.id, r.nome, c.nome from Restaurante r join r.cozinha c "
+                    + "where :restauranteId is null or r.id = :restauranteId", Object[].class)
+                    .setParameter("restauranteId", restauranteId)
+                    .getResultList();
+
+            for (Object[] restaurante : restaurantes) {
+                var documento = new Document();
+                documento.add(new StringField(CAMPO_ID, restaurante[0].toString(), Field.Store.YES));
+                documento.add(new TextField(CAMPO_NOME, (String) restaurante[1], Field.Store.NO));
+                documento.add(new TextField(CAMPO_COZINHA, (String) restaurante[2], Field.Store.NO));
+                documentos.put((Long) restaurante[0], documento);
+            }
+
+            var produtos = entityManager.createQuery("select p.restaurante.id, p.nome, p.descricao from Produto p "
+                    + "where p.ativo = true and (:restauranteId is null or p.restaurante.id = :restauranteId)", Object[].class)
+                    .setParameter("restauranteId", restauranteId)
+                    .getResultList();
+
+            for (Object[] produto : produtos) {
+                Document documento = documentos.get(produto[0]);
+
+                if (documento != null) {
+                    documento.add(new TextField(CAMPO_PRODUTOS, (String) produto[1], Field.Store.NO));
+                    documento.add(new TextField(CAMPO_PRODUTOS, (String) produto[2], Field.Store.NO));
+                }
+            }
+
+            return documentos;
+        });
+    }
+
+    /**
+     * Cada palavra do termo precisa aparecer em algum dos campos, como palavra inteira, prefixo ou com erro de digitação
+     */
+    private Query criarQuery(String termo) {
+        List<String> palavras = analisar(termo);
+
+        if (palavras.isEmpty()) {
+            return null;
+        }
+
+        var query = new BooleanQuery.Builder();
+
+        for (String palavra : palavras) {
+            var palavraQuery = new BooleanQuery.Builder();
+
+            PESO_CAMPOS.forEach((campo, peso) -> {
+                var termoCampo = new Term(campo, palavra);
+
+                palavraQuery.add(new BoostQuery(new TermQuery(termoCampo), peso), BooleanClause.Occur.SHOULD);
+                palavraQuery.add(new BoostQuery(new PrefixQuery(termoCampo), peso * PESO_PREFIXO), BooleanClause.Occur.SHOULD);
+
+                if (palavra.length() >= TAMANHO_MINIMO_APROXIMADO) {
+                    int edicoes = palavra.length() >= TAMANHO_MINIMO_DUAS_EDICOES ? 2 : 1;
+                    palavraQuery.add(new BoostQuery(new FuzzyQuery(termoCampo, edicoes, 1), peso * PESO_APROXIMADO),
+                            BooleanClause.Occur.SHOULD);
+                }
+            });
+
+            query.add(palavraQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        return query.build();
+    }
+
+    private List<String> analisar(String termo) {
+        var palavras = new ArrayList<String>();
+
+        try (TokenStream tokens = analyzer.tokenStream(CAMPO_NOME, termo)) {
+            CharTermAttribute palavra = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+
+            while (tokens.incrementToken()) {
+                palavras.add(palavra.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return palavras;
+    }
+}
@@ -1,5 +1,6 @@
 package com.lmg.lmgfood.infra.repository.service.query;
 
+import com.lmg.lmgfood.domain.exception.NegocioException;
 import com.lmg.lmgfood.domain.filter.VendaDiariaFilter;
 import com.lmg.lmgfood.domain.model.Pedido;
 import com.lmg.lmgfood.domain.model.dto.VendaDiaria;
@@ -9,22 +10,138 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Repository
 public class VendaQueryServiceImpl implements VendaQueryService {
 
     public static final String DATA_CRIACAO = "dataCriacao";
+
+    private static final int SEGUNDOS_HORA = 3600;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Responde a partir da tabela venda_diaria_rollup, agregada por restaurante e hora (UTC).
+     * A tabela de pedidos só é lida para as frações de hora no início e no fim do período filtrado.
+     */
     @Override
     public List<VendaDiaria> consultarVendasDiarias(VendaDiariaFilter filtro, String timeOffSet) {
+        ZoneOffset offset = converterOffset(timeOffSet);
+
+        // Baldes de uma hora não conseguem representar fusos com minutos, ex: +05:30
+        if (offset.getTotalSeconds() % SEGUNDOS_HORA != 0) {
+            return consultarNaTabelaPedido(filtro, timeOffSet);
+        }
+
+        OffsetDateTime inicio = filtro.getDataCriacaoInicio();
+        OffsetDateTime fim = filtro.getDataCriacaoFim();
+
+        OffsetDateTime inicioHoraCheia = inicio == null ? null : arredondarParaProximaHora(inicio);
+        OffsetDateTime fimHoraCheia = fim == null ? null : truncarHora(fim);
+
+        // Período dentro de uma única hora, não existe balde completo para usar
+        if (inicioHoraCheia != null && fimHoraCheia != null && inicioHoraCheia.isAfter(fimHoraCheia)) {
+            return consultarNaTabelaPedido(filtro, timeOffSet);
+        }
+
+        var vendasPorDia = new TreeMap<LocalDate, VendaDiaria>();
+
+        for (Tuple hora : consultarRollup(filtro.getRestauranteId(), inicioHoraCheia, fimHoraCheia)) {
+            var data = ((Timestamp) hora.get(0)).toInstant().atOffset(offset).toLocalDate();
+            somar(vendasPorDia, data, ((Number) hora.get(1)).longValue(), (BigDecimal) hora.get(2));
+        }
+
+        if (inicio != null && inicio.isBefore(inicioHoraCheia)) {
+            Tuple fracao = totalizarPedidos(filtro.getRestauranteId(), inicio, inicioHoraCheia, false);
+            somar(vendasPorDia, inicio.withOffsetSameInstant(offset).toLocalDate(),
+                    (Long) fracao.get(0), (BigDecimal) fracao.get(1));
+        }
+
+        if (fim != null) {
+            Tuple fracao = totalizarPedidos(filtro.getRestauranteId(), fimHoraCheia, fim, true);
+            somar(vendasPorDia, fimHoraCheia.withOffsetSameInstant(offset).toLocalDate(),
+                    (Long) fracao.get(0), (BigDecimal) fracao.get(1));
+        }
+
+        return new ArrayList<>(vendasPorDia.values());
+    }
+
+    private List<Tuple> consultarRollup(Long restauranteId, OffsetDateTime inicio, OffsetDateTime fim) {
+        var sql = new StringBuilder("select hora, sum(total_vendas), sum(total_faturado) from venda_diaria_rollup where 1 = 1");
+
+        if (restauranteId != null) {
+            sql.append(" and restaurante_id = :restauranteId");
+        }
+        if (inicio != null) {
+            sql.append(" and hora >= :inicio");
+        }
+        if (fim != null) {
+            sql.append(" and hora < :fim");
+        }
+        sql.append(" group by hora");
+
+        var query = entityManager.createNativeQuery(sql.toString(), Tuple.class);
+
+        if (restauranteId != null) {
+            query.setParameter("restauranteId", restauranteId);
+        }
+        if (inicio != null) {
+            query.setParameter("inicio", inicio);
+        }
+        if (fim != null) {
+            query.setParameter("fim", fim);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> horas = query.getResultList();
+        return horas;
+    }
+
+    /**
+     * Total de pedidos faturados criados entre inicio e fim, usado apenas para frações de uma hora
+     */
+    private Tuple totalizarPedidos(Long restauranteId, OffsetDateTime inicio, OffsetDateTime fim, boolean incluirFim) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var root = query.from(Pedido.class);
+
+        var predicates = new ArrayList<Predicate>();
+
+        if (Objects.nonNull(restauranteId)) {
+            predicates.add(builder.equal(root.get("restaurante"), restauranteId));
+        }
+
+        predicates.add(builder.greaterThanOrEqualTo(root.get(DATA_CRIACAO), inicio));
+        predicates.add(incluirFim
+                ? builder.lessThanOrEqualTo(root.get(DATA_CRIACAO), fim)
+                : builder.lessThan(root.get(DATA_CRIACAO), fim));
+        predicates.add(root.get("status").in(statusFaturados()));
+
+        query.multiselect(builder.count(root.get("id")), builder.sum(root.<BigDecimal>get("valorTotal")));
+        query.where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<VendaDiaria> consultarNaTabelaPedido(VendaDiariaFilter filtro, String timeOffSet) {
         var builder = entityManager.getCriteriaBuilder();
         var query = builder.createQuery(VendaDiaria.class);  // tipo que a consulta retorna
         var root = query.from(Pedido.class);
@@ -55,7 +172,7 @@ public class VendaQueryServiceImpl implements VendaQueryService {
             predicates.add(builder.lessThanOrEqualTo(root.get(DATA_CRIACAO), filtro.getDataCriacaoFim()));
         }
 
-        predicates.add(root.get("status").in(StatusPedido.CONFIRMADO, StatusPedido.ENTREGUE));
+        predicates.add(root.get("status").in(statusFaturados()));
 
         query.select(selection);
         query.groupBy(functionDateDataCriacao);
@@ -64,4 +181,39 @@ public class VendaQueryServiceImpl implements VendaQueryService {
 
         return entityManager.createQuery(query).getResultList();
     }
+
+    private void somar(Map<LocalDate, VendaDiaria> vendasPorDia, LocalDate data, Long totalVendas, BigDecimal totalFaturado) {
+        if (totalVendas == null || totalVendas == 0) {
+            return;
+        }
+
+        var vendaDiaria = vendasPorDia.computeIfAbsent(data,
+                dia -> new VendaDiaria(java.sql.Date.valueOf(dia), 0L, BigDecimal.ZERO));
+
+        vendaDiaria.setTotalVendas(vendaDiaria.getTotalVendas() + totalVendas);
+        vendaDiaria.setTotalFaturado(vendaDiaria.getTotalFaturado().add(totalFaturado));
+    }
+
+    private List<StatusPedido> statusFaturados() {
+        return Arrays.stream(StatusPedido.values())
+                .filter(StatusPedido::contabilizaVenda)
+                .collect(Collectors.toList());
+    }
+
+    private ZoneOffset converterOffset(String timeOffSet) {
+        try {
+            return ZoneOffset.of(timeOffSet);
+        } catch (DateTimeException e) {
+            throw new NegocioException(String.format("O timeOffset '%s' é inválido, use o formato +00:00", timeOffSet), e);
+        }
+    }
+
+    private OffsetDateTime truncarHora(OffsetDateTime dataHora) {
+        return dataHora.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private OffsetDateTime arredondarParaProximaHora(OffsetDateTime dataHora) {
+        OffsetDateTime hora = truncarHora(dataHora);
+        return hora.isBefore(dataHora) ? hora.plusHours(1) : hora;
+    }
 }
@@ -0,0 +1,82 @@
+package com.lmg.lmgfood.infra.repository.service.query;
+
+import com.lmg.lmgfood.domain.model.dto.PedidoSituacao;
+import com.lmg.lmgfood.domain.model.enums.StatusPedido;
+import com.lmg.lmgfood.domain.service.VendaRollupService;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class VendaRollupServiceImpl implements VendaRollupService {
+
+    private static final String TABELA_ROLLUP = "venda_diaria_rollup";
+
+    private static final String INSERT_ROLLUP = "insert into " + TABELA_ROLLUP + " "
+            + "(restaurante_id, hora, total_vendas, total_faturado) values ";
+
+    private static final String UPSERT_ROLLUP = " on duplicate key update total_vendas = total_vendas + values(total_vendas), "
+            + "total_faturado = total_faturado + values(total_faturado)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void registrarAlteracaoStatus(PedidoSituacao pedido, StatusPedido novoStatus) {
+        registrarAlteracoesStatus(List.of(pedido), novoStatus);
+    }
+
+    @Override
+    public void registrarAlteracoesStatus(List<PedidoSituacao> pedidos, StatusPedido novoStatus) {
+        var baldes = new LinkedHashMap<List<Object>, Object[]>();
+
+        for (PedidoSituacao pedido : pedidos) {
+            int variacao = (novoStatus.contabilizaVenda() ? 1 : 0) - (pedido.getStatus().contabilizaVenda() ? 1 : 0);
+
+            if (variacao == 0) {
+                continue;
+            }
+
+            // O pedido entra no balde da hora (UTC) em que foi criado, igual à consulta na tabela de pedidos
+            var hora = pedido.getDataCriacao().withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+
+            Object[] totais = baldes.computeIfAbsent(List.of(pedido.getRestauranteId(), hora),
+                    balde -> new Object[] {0L, BigDecimal.ZERO});
+            totais[0] = (Long) totais[0] + variacao;
+            totais[1] = ((BigDecimal) totais[1]).add(pedido.getValorTotal().multiply(BigDecimal.valueOf(variacao)));
+        }
+
+        if (baldes.isEmpty()) {
+            return;
+        }
+
+        var sql = new StringBuilder(INSERT_ROLLUP);
+        sql.append(String.join(", ", Collections.nCopies(baldes.size(), "(?, ?, ?, ?)")));
+        sql.append(UPSERT_ROLLUP);
+
+        // Sem o espaço de consulta, o Hibernate não sabe quais tabelas o SQL nativo altera e invalida todas as
+        // regiões do cache de segundo nível e do cache de consultas (inclusive as de forma de pagamento)
+        var query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TABELA_ROLLUP);
+        int parametro = 1;
+
+        for (Map.Entry<List<Object>, Object[]> balde : baldes.entrySet()) {
+            query.setParameter(parametro++, balde.getKey().get(0));
+            query.setParameter(parametro++, balde.getKey().get(1));
+            query.setParameter(parametro++, balde.getValue()[0]);
+            query.setParameter(parametro++, balde.getValue()[1]);
+        }
+
+        query.executeUpdate();
+    }
+}
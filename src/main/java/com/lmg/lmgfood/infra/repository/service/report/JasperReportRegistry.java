@@ -0,0 +1,52 @@
+package com.lmg.lmgfood.infra.repository.service.report;
+
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.util.JRLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Carrega uma única vez, na inicialização, todos os relatórios compilados em /relatorios.
+ * O JasperReport é imutável durante o preenchimento e pode ser compartilhado entre threads.
+ */
+@Component
+public class JasperReportRegistry {
+
+    private static final String RELATORIOS = "classpath:/relatorios/*.jasper";
+
+    private static final String EXTENSAO = ".jasper";
+
+    private final Map<String, JasperReport> relatorios = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void carregar() throws IOException, JRException {
+        Resource[] recursos = new PathMatchingResourcePatternResolver().getResources(RELATORIOS);
+
+        for (Resource recurso : recursos) {
+            try (InputStream inputStream = recurso.getInputStream()) {
+                String nome = recurso.getFilename().replace(EXTENSAO, "");
+                relatorios.put(nome, (JasperReport) JRLoader.loadObject(inputStream));
+            }
+        }
+    }
+
+    /**
+     * @param nome nome do arquivo em /relatorios, sem a extensão .jasper
+     */
+    public JasperReport buscar(String nome) {
+        JasperReport relatorio = relatorios.get(nome);
+
+        if (relatorio == null) {
+            throw new ReportException(String.format("Relatório %s não encontrado", nome));
+        }
+        return relatorio;
+    }
+}
@@ -4,13 +4,16 @@ import com.lmg.lmgfood.domain.filter.VendaDiariaFilter;
 import com.lmg.lmgfood.domain.model.dto.VendaDiaria;
 import com.lmg.lmgfood.domain.service.VendaQueryService;
 import com.lmg.lmgfood.domain.service.VendaReportService;
-import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -18,22 +21,36 @@ import java.util.Locale;
 @Service
 public class PdfVendaDiariaReportServiceImpl implements VendaReportService {
 
+    private static final String RELATORIO_VENDAS_DIARIAS = "vendas-diarias";
+
+    private static final Locale LOCALE_RELATORIO = new Locale("pt", "BR");
+
     @Autowired
     private VendaQueryService vendaQueryService;
 
+    @Autowired
+    private JasperReportRegistry jasperReportRegistry;
+
     @Override
-    public byte[] emitirVendasDiarias(VendaDiariaFilter filtro, String timeOffset) {
-        try {
-            var inputStream = this.getClass().getResourceAsStream("/relatorios/vendas-diarias.jasper");
+    public void emitirVendasDiarias(VendaDiariaFilter filtro, String timeOffset, OutputStream saida) {
+        emitirVendasDiarias(vendaQueryService.consultarVendasDiarias(filtro, timeOffset), saida);
+    }
 
+    @Override
+    public void emitirVendasDiarias(List<VendaDiaria> vendasDiarias, OutputStream saida) {
+        try {
             var parametros = new HashMap<String, Object>();
-            parametros.put("REPORT_LOCALE", new Locale("pt", "BR"));
+            parametros.put("REPORT_LOCALE", LOCALE_RELATORIO);
+
+            JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(vendasDiarias);
 
-            List<VendaDiaria> vendaDiarias = vendaQueryService.consultarVendasDiarias(filtro, timeOffset);
-            JRBeanCollectionDataSource dataSource = new JRBeanCollectionDataSource(vendaDiarias);
+            JasperPrint jasperPrint = JasperFillManager.fillReport(
+                    jasperReportRegistry.buscar(RELATORIO_VENDAS_DIARIAS), parametros, dataSource);
 
-            JasperPrint jasperPrint = JasperFillManager.fillReport(inputStream, parametros, dataSource);
-            return JasperExportManager.exportReportToPdf(jasperPrint);
+            var exporter = new JRPdfExporter();
+            exporter.setExporterInput(new SimpleExporterInput(jasperPrint));
+            exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(saida));
+            exporter.exportReport();
         } catch (Exception e) {
             throw new ReportException("Não foi possível gerar o relatório de vendas diárias", e);
         }
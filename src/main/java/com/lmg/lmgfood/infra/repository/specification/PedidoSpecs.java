@@ -1,5 +1,6 @@
 package com.lmg.lmgfood.infra.repository.specification;
 
+import com.lmg.lmgfood.domain.filter.PedidoCursor;
 import com.lmg.lmgfood.domain.model.Pedido;
 import com.lmg.lmgfood.domain.filter.PedidoFilter;
 import org.springframework.data.jpa.domain.Specification;
@@ -39,4 +40,15 @@ public class PedidoSpecs {
         };
     }
 
+    /**
+     * Pedidos que vêm depois do cursor na ordenação (dataCriacao, id) decrescente
+     */
+    public static Specification<Pedido> aposCursor(PedidoCursor cursor) {
+        return (root, query, builder) -> builder.or(
+                builder.lessThan(root.get("dataCriacao"), cursor.getDataCriacao()),
+                builder.and(
+                        builder.equal(root.get("dataCriacao"), cursor.getDataCriacao()),
+                        builder.lessThan(root.get("id"), cursor.getId())));
+    }
+
 }
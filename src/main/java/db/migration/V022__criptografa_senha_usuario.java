@@ -0,0 +1,31 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.ResultSet;
+
+/**
+ * Grava com BCrypt as senhas que estavam em texto. O hash não pode ser calculado em SQL, por isso a migração é em
+ * Java. As senhas que já têm o prefixo do algoritmo ({bcrypt}...) não são alteradas.
+ */
+public class V022__criptografa_senha_usuario extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        var passwordEncoder = new BCryptPasswordEncoder();
+
+        try (var select = context.getConnection().createStatement();
+             var update = context.getConnection().prepareStatement("update usuario set senha = ? where id = ?");
+             ResultSet usuarios = select.executeQuery("select id, senha from usuario where senha not like '{%}%'")) {
+
+            while (usuarios.next()) {
+                update.setString(1, "{bcrypt}" + passwordEncoder.encode(usuarios.getString("senha")));
+                update.setLong(2, usuarios.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+}
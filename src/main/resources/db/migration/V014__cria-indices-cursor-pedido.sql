@@ -0,0 +1,3 @@
+create index idx_pedido_data_criacao_id on pedido (data_criacao, id);
+create index idx_pedido_restaurante_data_criacao_id on pedido (restaurante_id, data_criacao, id);
+create index idx_pedido_cliente_data_criacao_id on pedido (usuario_cliente_id, data_criacao, id);
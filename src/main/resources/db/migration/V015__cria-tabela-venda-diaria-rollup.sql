@@ -0,0 +1,18 @@
+create table venda_diaria_rollup (
+  restaurante_id bigint not null,
+  hora datetime not null,
+  total_vendas bigint not null,
+  total_faturado decimal(14,2) not null,
+
+  primary key (restaurante_id, hora),
+
+  constraint fk_venda_diaria_rollup_restaurante foreign key (restaurante_id) references restaurante (id)
+) engine=InnoDB default charset=utf8;
+
+create index idx_venda_diaria_rollup_hora on venda_diaria_rollup (hora);
+
+insert into venda_diaria_rollup (restaurante_id, hora, total_vendas, total_faturado)
+select restaurante_id, date_format(data_criacao, '%Y-%m-%d %H:00:00'), count(id), sum(valor_total)
+from pedido
+where status in ('CONFIRMADO', 'ENTREGUE')
+group by restaurante_id, date_format(data_criacao, '%Y-%m-%d %H:00:00');
@@ -0,0 +1,5 @@
+create table item_pedido_seq (
+  next_val bigint not null
+) engine=InnoDB default charset=utf8;
+
+insert into item_pedido_seq (next_val) select coalesce(max(id), 0) + 1 from item_pedido;
@@ -0,0 +1,9 @@
+alter table restaurante
+add column endereco_latitude decimal(9,6),
+add column endereco_longitude decimal(9,6);
+
+alter table pedido
+add column endereco_latitude decimal(9,6),
+add column endereco_longitude decimal(9,6);
+
+create index idx_restaurante_localizacao on restaurante (endereco_latitude, endereco_longitude);
@@ -0,0 +1,12 @@
+create table pedido_evento (
+  id bigint not null auto_increment,
+  pedido_id bigint not null,
+  pedido_codigo varchar(36) not null,
+  restaurante_id bigint not null,
+  status_anterior varchar(10) not null,
+  status_novo varchar(10) not null,
+  data_ocorrencia datetime not null,
+  tentativas int not null default 0,
+
+  primary key (id)
+) engine=InnoDB default charset=utf8;
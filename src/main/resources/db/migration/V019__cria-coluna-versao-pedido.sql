@@ -0,0 +1 @@
+alter table pedido add column versao bigint not null default 0;
@@ -0,0 +1,3 @@
+-- A data de atualização compõe o ETag, com precisão de segundos duas alterações no mesmo segundo gerariam o mesmo ETag
+alter table restaurante modify data_atualizacao datetime(6) not null;
+alter table forma_pagamento modify data_atualizacao datetime(6) not null;
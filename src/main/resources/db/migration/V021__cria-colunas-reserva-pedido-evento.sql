@@ -0,0 +1,4 @@
+alter table pedido_evento add column reservado_por varchar(36) null;
+alter table pedido_evento add column reservado_ate datetime null;
+
+create index idx_pedido_evento_pedido on pedido_evento (pedido_id, id);
@@ -15,6 +15,7 @@ delete from usuario_grupo;
 delete from restaurante_usuario_responsavel;
 delete from pedido;
 delete from item_pedido;
+delete from venda_diaria_rollup;
 
 set foreign_key_checks = 1;
 
@@ -78,12 +79,13 @@ insert into grupo (id, nome) values (1, 'Gerente'), (2, 'Vendedor'), (3, 'Secret
 
 insert into grupo_permissao (grupo_id, permissao_id) values (1, 1), (1, 2), (2, 1), (2, 2), (3, 1);
 
+-- Senha de todos os usuários: 123
 insert into usuario (id, nome, email, senha, data_cadastro) values
-(1, 'João da Silva', 'joao.ger@algafood.com', '123', utc_timestamp),
-(2, 'Maria Joaquina', 'maria.vnd@algafood.com', '123', utc_timestamp),
-(3, 'José Souza', 'jose.aux@algafood.com', '123', utc_timestamp),
-(4, 'Sebastião Martins', 'sebastiao.cad@algafood.com', '123', utc_timestamp),
-(5, 'Manoel Lima', 'manoel.loja@gmail.com', '123', utc_timestamp);
+(1, 'João da Silva', 'joao.ger@algafood.com', '{bcrypt}$2a$10$CUeAo0JBBa/wNmwYhPPaEeMe43yyggO588O9UgCT0uyVa27Kf9uBG', utc_timestamp),
+(2, 'Maria Joaquina', 'maria.vnd@algafood.com', '{bcrypt}$2a$10$CUeAo0JBBa/wNmwYhPPaEeMe43yyggO588O9UgCT0uyVa27Kf9uBG', utc_timestamp),
+(3, 'José Souza', 'jose.aux@algafood.com', '{bcrypt}$2a$10$CUeAo0JBBa/wNmwYhPPaEeMe43yyggO588O9UgCT0uyVa27Kf9uBG', utc_timestamp),
+(4, 'Sebastião Martins', 'sebastiao.cad@algafood.com', '{bcrypt}$2a$10$CUeAo0JBBa/wNmwYhPPaEeMe43yyggO588O9UgCT0uyVa27Kf9uBG', utc_timestamp),
+(5, 'Manoel Lima', 'manoel.loja@gmail.com', '{bcrypt}$2a$10$CUeAo0JBBa/wNmwYhPPaEeMe43yyggO588O9UgCT0uyVa27Kf9uBG', utc_timestamp);
 
 insert into usuario_grupo ( usuario_id, grupo_id) values (1,1), (1,2), (2,2);
 
@@ -112,4 +114,11 @@ insert into item_pedido (id, pedido_id, produto_id, quantidade, preco_unitario,
 values (3, 2, 6, 1, 79, 79, 'Ao ponto');
 
 alter table pedido auto_increment = 1;
-alter table item_pedido auto_increment = 1;
\ No newline at end of file
+alter table item_pedido auto_increment = 1;
+update item_pedido_seq set next_val = (select coalesce(max(id), 0) + 1 from item_pedido);
+
+insert into venda_diaria_rollup (restaurante_id, hora, total_vendas, total_faturado)
+select restaurante_id, date_format(data_criacao, '%Y-%m-%d %H:00:00'), count(id), sum(valor_total)
+from pedido
+where status in ('CONFIRMADO', 'ENTREGUE')
+group by restaurante_id, date_format(data_criacao, '%Y-%m-%d %H:00:00');
@@ -0,0 +1,57 @@
+package com.lmg.lmgfood;
+
+import com.lmg.lmgfood.api.mapper.CidadeMapper;
+import com.lmg.lmgfood.api.model.form.CidadeForm;
+import com.lmg.lmgfood.domain.exception.EstadoNaoEncontradoException;
+import com.lmg.lmgfood.domain.model.Cidade;
+import com.lmg.lmgfood.domain.model.Estado;
+import com.lmg.lmgfood.domain.service.CadastroCidadeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest
+class CadastroCidadeIntegrationTest {
+
+		// Cidade da massa de testes (db/testdata/afterMigrate.sql)
+		private static final Long CIDADE_ID = 1L;
+
+		private static final Long ESTADO_INEXISTENTE_ID = 9999L;
+
+		@Autowired
+		private CadastroCidadeService service;
+
+		@Autowired
+		private CidadeMapper mapper;
+
+		@Test
+		@DisplayName("Não deve alterar a cidade em cache quando a atualização falha")
+		void testarAtualizacaoComFalhaNaoAlteraCache(){
+			//cenário, cidade guardada no cache
+			Cidade emCache = service.buscarOuFalhar(CIDADE_ID);
+			String nomeOriginal = emCache.getNome();
+			Long estadoOriginalId = emCache.getEstado().getId();
+
+			var estado = new Estado();
+			estado.setId(ESTADO_INEXISTENTE_ID);
+			var cidadeForm = new CidadeForm();
+			cidadeForm.setNome("Cidade alterada");
+			cidadeForm.setEstado(estado);
+
+			//ação, mesma sequência do PUT /cidades/{cidadeId}, falhando pelo estado inexistente
+			Cidade cidade = service.buscarParaAlteracao(CIDADE_ID);
+			mapper.copyToDomainObject(cidadeForm, cidade);
+
+			assertThatExceptionOfType(EstadoNaoEncontradoException.class)
+					.isThrownBy(() -> service.adicionar(cidade));
+
+			//validação, o cache continua com os valores do banco
+			Cidade depoisDaFalha = service.buscarOuFalhar(CIDADE_ID);
+			assertThat(depoisDaFalha.getNome()).isEqualTo(nomeOriginal);
+			assertThat(depoisDaFalha.getEstado().getId()).isEqualTo(estadoOriginalId);
+		}
+}
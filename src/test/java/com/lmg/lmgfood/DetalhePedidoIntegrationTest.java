@@ -0,0 +1,48 @@
+package com.lmg.lmgfood;
+
+import com.lmg.lmgfood.api.mapper.PedidoMapper;
+import com.lmg.lmgfood.api.model.PedidoDTO;
+import com.lmg.lmgfood.core.metrics.ContadorConsultasInspector;
+import com.lmg.lmgfood.domain.service.EmissaoPedidoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class DetalhePedidoIntegrationTest {
+
+		// Pedido da massa de testes (db/testdata/afterMigrate.sql) com dois itens
+		private static final String CODIGO_PEDIDO = "ac383cd2-5cf5-4fc1-a7ba-dec68a82e45a";
+
+		@Autowired
+		private EmissaoPedidoService emissaoPedidoService;
+
+		@Autowired
+		private PedidoMapper pedidoMapper;
+
+		@Autowired
+		private ContadorConsultasInspector contadorConsultasInspector;
+
+		@Test
+		@DisplayName("Deve montar o detalhe do pedido com uma única consulta")
+		void testarDetalhePedidoComUmaConsulta(){
+			//ação, busca e converte como o GET /pedidos/{codigoPedido}, contando os comandos SQL
+			contadorConsultasInspector.iniciar();
+			PedidoDTO pedido = pedidoMapper.toDTO(emissaoPedidoService.buscarDetalheOuFalhar(CODIGO_PEDIDO));
+			long consultas = contadorConsultasInspector.finalizar();
+
+			//validação, nenhuma associação carregada sob demanda durante o mapeamento
+			assertThat(consultas).isEqualTo(1);
+			assertThat(pedido.getItens()).hasSize(2);
+			assertThat(pedido.getItens()).allSatisfy(item -> assertThat(item.getProdutoNome()).isNotBlank());
+			assertThat(pedido.getEnderecoEntrega().getCidade().getEstado()).isNotBlank();
+			assertThat(pedido.getFormaPagamento().getDescricao()).isNotBlank();
+			assertThat(pedido.getRestaurante().getNome()).isNotBlank();
+			assertThat(pedido.getCliente().getNome()).isNotBlank();
+		}
+}